@@ -0,0 +1,183 @@
+package com.components.scraper;
+
+import com.components.scraper.stub.VendorStubServer;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * End-to-end throughput of the search controllers against {@link VendorStubServer}.
+ * <p>
+ * Starts the stub and the full application with the {@code vendor-stub} profile
+ * on a random port, then drives the MPN, parametric and cross-reference endpoints
+ * from {@value #CLIENT_THREADS} concurrent callers. The MPN result cache is off and
+ * every MPN request carries a distinct part number, so each call reaches the stub.
+ * Stub behaviour (latency, errors, 429s) is tuned with the {@code stub.*} system
+ * properties, which {@code ./gradlew jmh} forwards, e.g. {@code -Dstub.error-rate=0.01}.
+ * </p>
+ * <p>
+ * Besides ops/s, each benchmark reports {@code ok}, {@code rejected} (HTTP 429)
+ * and {@code failed} (any other non-2xx) counts.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(ControllerThroughputBenchmark.CLIENT_THREADS)
+@State(Scope.Benchmark)
+public class ControllerThroughputBenchmark {
+
+    static final int CLIENT_THREADS = 32;
+
+    private static final Duration CALL_TIMEOUT = Duration.ofSeconds(30);
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private VendorStubServer stub;
+
+    private ConfigurableApplicationContext app;
+
+    private ConnectionProvider connections;
+
+    private HttpClient client;
+
+    @Setup
+    public void setUp() {
+        stub = VendorStubServer.start(System.getProperties());
+        app = new SpringApplicationBuilder(AgenticScraperApplication.class)
+                .profiles("vendor-stub")
+                .properties(
+                        "server.port=0",
+                        "openai.api.key=stub",
+                        "scraper.mpn-cache.enabled=false",
+                        "scraper.llm-cache.file=",
+                        "logging.level.root=WARN")
+                .run();
+        int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+
+        connections = ConnectionProvider.builder("benchmark-client")
+                .maxConnections(CLIENT_THREADS * 2)
+                .build();
+        client = HttpClient.create(connections)
+                .baseUrl("http://127.0.0.1:" + port)
+                .headers(h -> h.set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON));
+    }
+
+    @TearDown
+    public void tearDown() {
+        connections.disposeLater().block();
+        app.close();
+        stub.close();
+    }
+
+    @Benchmark
+    public int mpnMurata(final Outcomes outcomes) {
+        return post("/api/search/mpn?vendor=murata", mpn("GRM155R71C"), outcomes);
+    }
+
+    @Benchmark
+    public int mpnTdk(final Outcomes outcomes) {
+        return post("/api/search/mpn?vendor=tdk", mpn("C1005X7R1C"), outcomes);
+    }
+
+    @Benchmark
+    public int mpnKemet(final Outcomes outcomes) {
+        return post("/api/search/mpn?vendor=kemet", mpn("C0805C104K"), outcomes);
+    }
+
+    @Benchmark
+    public int parametricMurata(final Outcomes outcomes) {
+        return post("/api/search/parametric?vendor=murata", """
+                {"category": "Capacitors", "subcategory": "Ceramic Capacitors(SMD)",
+                 "parameters": {"Capacitance": {"min": 0.1, "max": 10}}, "maxResults": 100}""", outcomes);
+    }
+
+    @Benchmark
+    public int parametricTdk(final Outcomes outcomes) {
+        return post("/api/search/parametric?vendor=tdk", """
+                {"category": "Capacitors", "subcategory": "Ceramic Capacitors",
+                 "parameters": {"Capacitance": {"min": 0.1, "max": 10}}, "maxResults": 100}""", outcomes);
+    }
+
+    @Benchmark
+    public int crossRefMurata(final Outcomes outcomes) {
+        return post("/api/search/cross-ref?vendor=murata", """
+                {"competitorMpn": "CL05B104KO5NNNC", "categoryPath": ["Capacitors"]}""", outcomes);
+    }
+
+    private String mpn(final String prefix) {
+        return "{\"mpn\": \"" + prefix + sequence.incrementAndGet() + "\"}";
+    }
+
+    private int post(final String uri, final String json, final Outcomes outcomes) {
+        Integer status = client.post()
+                .uri(uri)
+                .send(ByteBufFlux.fromString(Mono.just(json)))
+                .responseSingle((res, body) -> body.asByteArray()
+                        .map(bytes -> res.status().code())
+                        .defaultIfEmpty(res.status().code()))
+                .block(CALL_TIMEOUT);
+        int code = status != null ? status : 0;
+        outcomes.record(code);
+        return code;
+    }
+
+    /**
+     * Per-thread response counters, reported next to the throughput.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+
+        private static final int TOO_MANY_REQUESTS = 429;
+
+        public long ok;
+
+        public long rejected;
+
+        public long failed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ok = 0;
+            rejected = 0;
+            failed = 0;
+        }
+
+        void record(final int status) {
+            if (status >= 200 && status < 300) {
+                ok++;
+            } else if (status == TOO_MANY_REQUESTS) {
+                rejected++;
+            } else {
+                failed++;
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.components.scraper.parser;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Vendor grid payloads for the benchmarks and the vendor stub, scaled to a given
+ * row count.
+ * <p>
+ * Each fixture under {@code /fixtures} holds a few rows shaped like the vendor's
+ * real response; the requested size is reached by repeating those rows in turn.
+ * </p>
+ */
+public final class GridFixtures {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** One table row of TDK's results HTML. */
+    private static final Pattern TR = Pattern.compile("<tr\\b.*?</tr>", Pattern.DOTALL);
+
+    /** Decorative rows before and after TDK's data rows. */
+    private static final int TDK_HEAD_ROWS = 2;
+
+    private static final int TDK_FOOT_ROWS = 2;
+
+    private GridFixtures() {
+    }
+
+    /**
+     * @param rows number of products
+     * @return a Murata {@code PsdispRest} response body
+     */
+    public static byte[] murata(final int rows) {
+        return write(murataGrid(rows));
+    }
+
+    /**
+     * @param rows number of rows per table
+     * @return a Murata {@code SearchCrossReference} response body: competitor and
+     *         Murata tables, each shaped like a {@code PsdispRest} response
+     */
+    public static byte[] murataCrossRef(final int rows) {
+        ObjectNode grid = murataGrid(rows);
+        ObjectNode root = MAPPER.createObjectNode();
+        root.set("otherPsDispRest", grid);
+        root.set("murataPsDispRest", grid.deepCopy());
+        return write(root);
+    }
+
+    /**
+     * @param name file under {@code /fixtures}
+     * @return the raw fixture
+     */
+    public static byte[] raw(final String name) {
+        try (InputStream in = open(name)) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param rows number of data rows
+     * @return a TDK {@code search_result} response body
+     */
+    public static byte[] tdk(final int rows) {
+        ObjectNode root = (ObjectNode) load("tdk-search-result.json");
+        String html = root.path("results").asText();
+
+        List<String> trs = new ArrayList<>();
+        Matcher m = TR.matcher(html);
+        while (m.find()) {
+            trs.add(m.group());
+        }
+        List<String> data = trs.subList(TDK_HEAD_ROWS, trs.size() - TDK_FOOT_ROWS);
+
+        StringBuilder sb = new StringBuilder(html.substring(0, html.indexOf("<tr")));
+        trs.subList(0, TDK_HEAD_ROWS).forEach(sb::append);
+        for (int i = 0; i < rows; i++) {
+            sb.append(data.get(i % data.size()));
+        }
+        trs.subList(trs.size() - TDK_FOOT_ROWS, trs.size()).forEach(sb::append);
+        sb.append("</table>");
+
+        root.put("results", sb.toString());
+        root.put("total", rows);
+        return write(root);
+    }
+
+    /**
+     * @param rows number of parts
+     * @return a KEMET search response body
+     */
+    public static byte[] kemet(final int rows) {
+        ObjectNode root = (ObjectNode) load("kemet-search.json");
+        root.set("detectedUniqueParts", repeat((ArrayNode) root.get("detectedUniqueParts"), rows));
+        return write(root);
+    }
+
+    private static ObjectNode murataGrid(final int rows) {
+        ObjectNode root = (ObjectNode) load("murata-psdisp.json");
+        ObjectNode data = (ObjectNode) root.at("/Result/data");
+        data.set("products", repeat((ArrayNode) data.get("products"), rows));
+        data.put("count", rows);
+        return root;
+    }
+
+    private static ArrayNode repeat(final ArrayNode template, final int rows) {
+        ArrayNode out = MAPPER.createArrayNode();
+        for (int i = 0; i < rows; i++) {
+            out.add(template.get(i % template.size()).deepCopy());
+        }
+        return out;
+    }
+
+    private static JsonNode load(final String name) {
+        try (InputStream in = open(name)) {
+            return MAPPER.readTree(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static InputStream open(final String name) {
+        InputStream in = GridFixtures.class.getResourceAsStream("/fixtures/" + name);
+        if (in == null) {
+            throw new IllegalStateException("Missing fixture " + name);
+        }
+        return in;
+    }
+
+    private static byte[] write(final JsonNode root) {
+        try {
+            return MAPPER.writeValueAsBytes(root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
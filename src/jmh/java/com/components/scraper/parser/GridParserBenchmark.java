@@ -0,0 +1,95 @@
+package com.components.scraper.parser;
+
+import com.components.scraper.parser.kemet.KemetJsonGridParser;
+import com.components.scraper.parser.murata.MurataJsonGridParser;
+import com.components.scraper.parser.tdk.TdkJsonGridParser;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response-body-to-rows cost of the vendor grid parsers, including JSON decoding.
+ * <p>
+ * The Murata parser is measured on both paths – the {@code JsonNode} tree and
+ * the token stream used by the reactive services – and on serializing its rows
+ * back to JSON, as the REST layer does.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GridParserBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int rows;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final MurataJsonGridParser murata = new MurataJsonGridParser();
+
+    private final TdkJsonGridParser tdk = new TdkJsonGridParser();
+
+    private final KemetJsonGridParser kemet = new KemetJsonGridParser();
+
+    private byte[] murataBody;
+
+    private byte[] tdkBody;
+
+    private byte[] kemetBody;
+
+    private List<Map<String, Object>> murataRows;
+
+    @Setup
+    public void setUp() throws IOException {
+        murataBody = GridFixtures.murata(rows);
+        tdkBody = GridFixtures.tdk(rows);
+        kemetBody = GridFixtures.kemet(rows);
+        murataRows = murata.parse(mapper.readTree(murataBody));
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> murataTree() throws IOException {
+        return murata.parse(mapper.readTree(murataBody));
+    }
+
+    @Benchmark
+    public void murataStreaming(final Blackhole bh) throws IOException {
+        try (JsonParser p = mapper.createParser(murataBody)) {
+            murata.parse(p, bh::consume);
+        }
+    }
+
+    @Benchmark
+    public byte[] murataSerialize() throws IOException {
+        return mapper.writeValueAsBytes(murataRows);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> tdk() throws IOException {
+        return tdk.parse(mapper.readTree(tdkBody));
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> kemet() throws IOException {
+        return kemet.parse(mapper.readTree(kemetBody));
+    }
+}
@@ -0,0 +1,66 @@
+package com.components.scraper.service.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link VendorSearchEngine#buildUri} for the request shapes the vendor
+ * services send: a bare path, the Murata site-search query and a parametric
+ * query with several {@code scon} filters.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BuildUriBenchmark {
+
+    private final MultiValueMap<String, String> siteSearch = new LinkedMultiValueMap<>();
+
+    private final MultiValueMap<String, String> parametric = new LinkedMultiValueMap<>();
+
+    public BuildUriBenchmark() {
+        siteSearch.add("op", "AND");
+        siteSearch.add("q", "GRM155R71C104KA88D");
+        siteSearch.add("src", "product");
+        siteSearch.add("region", "en-us");
+
+        parametric.add("cate", "luCeramicCapacitorsSMD");
+        parametric.add("partno", "GRM155");
+        parametric.add("stype", "1");
+        parametric.add("rows", "100");
+        parametric.add("lang", "en-us");
+        parametric.add("scon", "ceramicCapacitors-capacitance;0.1|10");
+        parametric.add("scon", "ceramicCapacitors-ratedVoltageDC;16|50");
+        parametric.add("scon", "ceramicCapacitors-temperatureCharacteristics;X7R(EIA)");
+        parametric.add("scon", "ceramicCapacitors-temperatureCharacteristics;X5R(EIA)");
+    }
+
+    @Benchmark
+    public URI pathOnly() {
+        return VendorSearchEngine.buildUri("https://product.tdk.com", "/pdc_api/en/search/list/search_result", null);
+    }
+
+    @Benchmark
+    public URI siteSearch() {
+        return VendorSearchEngine.buildUri("https://sitesearch.murata.com", "/search/product", siteSearch);
+    }
+
+    @Benchmark
+    public URI parametric() {
+        return VendorSearchEngine.buildUri("https://www.murata.com", "/webapi/PsdispRest", parametric);
+    }
+}
@@ -0,0 +1,125 @@
+package com.components.scraper.service.murata;
+
+import com.components.scraper.config.ParametricFilterConfig;
+import com.components.scraper.config.VendorCfg;
+import com.components.scraper.config.VendorConfigFactory;
+import com.components.scraper.parser.murata.MurataJsonGridParser;
+import com.components.scraper.service.core.VendorTransportRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a parametric request into Murata's {@code PsdispRest} query:
+ * {@link MurataParametricSearchService#renderScon} per value shape and the whole
+ * {@link MurataParametricSearchService#buildParametricQuery} plus first-page URI.
+ * <p>
+ * The service is configured from the application's own {@code vendors.yml} and
+ * {@code parametric-filters.yml}. No request carries {@code details}, so the
+ * LLM is never involved.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MurataParametricQueryBenchmark {
+
+    private static final String CATE = "luCeramicCapacitorsSMD";
+
+    private static final String FIELD = "ceramicCapacitors-capacitance";
+
+    private final Map<String, Object> range = Map.of("min", 0.1, "max", 10);
+
+    private final List<String> multi = List.of("X7R(EIA)", "X5R(EIA)", "C0G(EIA)");
+
+    private final TextNode literal = TextNode.valueOf("16");
+
+    private final Map<String, Object> params = new LinkedHashMap<>();
+
+    private VendorTransportRegistry transports;
+
+    private MurataParametricSearchService service;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<PropertySource<?>> yaml = new ArrayList<>();
+        YamlPropertySourceLoader loader = new YamlPropertySourceLoader();
+        yaml.addAll(loader.load("vendors", new ClassPathResource("vendors.yml")));
+        yaml.addAll(loader.load("filters", new ClassPathResource("parametric-filters.yml")));
+        Binder binder = new Binder(ConfigurationPropertySources.from(yaml));
+
+        VendorCfg cfg = binder.bind("vendors.configs.murata", VendorCfg.class).get();
+        cfg.setName("murata");
+        ParametricFilterConfig filters = binder.bind("parametric-filters", ParametricFilterConfig.class).get();
+        VendorConfigFactory factory = new VendorConfigFactory() {
+            @Override
+            public VendorCfg forVendor(final String id) {
+                return cfg;
+            }
+        };
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        transports = new VendorTransportRegistry(registry);
+        service = new MurataParametricSearchService(new MurataJsonGridParser(), factory, WebClient.builder(),
+                transports, null, new ObjectMapper(), filters, null, new MurataCategoryDiscovery(registry));
+
+        params.put("mpn", "GRM155");
+        params.put("Capacitance", Map.of("min", 0.1, "max", 10));
+        params.put("Rated Voltage DC", Map.of("min", 16, "max", 50));
+        params.put("Temperature characteristics", multi);
+        params.put("AEC-Q200 Support", "Yes");
+    }
+
+    @TearDown
+    public void tearDown() {
+        transports.destroy();
+    }
+
+    @Benchmark
+    public List<String> renderSconRange() {
+        return service.renderScon(FIELD, range);
+    }
+
+    @Benchmark
+    public List<String> renderSconMulti() {
+        return service.renderScon(FIELD, multi);
+    }
+
+    @Benchmark
+    public List<String> renderSconLiteral() {
+        return service.renderScon(FIELD, literal);
+    }
+
+    @Benchmark
+    public URI buildParametricUri() {
+        return service.buildParametricUri(service.buildParametricQuery(CATE, params), 1, 100);
+    }
+}
@@ -0,0 +1,317 @@
+package com.components.scraper.stub;
+
+import com.components.scraper.parser.GridFixtures;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.convert.DurationStyle;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Local stand-in for the vendor sites, for load tests that must not touch
+ * murata.com, product.tdk.com or kemet.com.
+ * <p>
+ * One HTTP server per vendor host, so the application keeps one transport – pool
+ * and rate limiter – per vendor exactly as in production. Ports are
+ * {@code stub.port} (default {@value #DEFAULT_BASE_PORT}) plus the host offset,
+ * matching the {@code vendor-stub} profile in {@code vendors.yml}:
+ * </p>
+ * <ul>
+ *   <li>Murata (+1): {@code GET /webapi/PsdispRest}, {@code GET /webapi/SearchCrossReference}</li>
+ *   <li>Murata site-search (+2): {@code GET /search/product}</li>
+ *   <li>TDK (+3): {@code GET /en/search/list}, {@code POST /pdc_api/en/search/list/search_result}</li>
+ *   <li>KEMET (+4): {@code POST /en/us/search.products.json}</li>
+ * </ul>
+ * <p>
+ * Responses are the fixtures from {@code src/jmh/resources/fixtures}, scaled to the
+ * row count the request asks for ({@code rows} / {@code _l}). Behaviour is set per
+ * host with {@code stub.<host>.<key>} or for all hosts with {@code stub.<key>}, where
+ * {@code <host>} is {@code murata}, {@code sitesearch}, {@code tdk} or {@code kemet}:
+ * </p>
+ * <ul>
+ *   <li>{@code latency.median}, {@code latency.p99} – log-normal response delay
+ *       (default 80ms / 400ms; equal values give a fixed delay);</li>
+ *   <li>{@code error-rate} – fraction of requests answered with HTTP 500 (default 0);</li>
+ *   <li>{@code throttle.rps} – requests per second above which the host answers
+ *       HTTP 429 with {@code Retry-After} (default 0 = never);</li>
+ *   <li>{@code rows} – row count when the request does not say (default 20).</li>
+ * </ul>
+ */
+public final class VendorStubServer implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VendorStubServer.class);
+
+    static final int DEFAULT_BASE_PORT = 18080;
+
+    private static final int MAX_ROWS = 1_000;
+
+    /** z-score of the 99th percentile of the standard normal distribution. */
+    private static final double Z_P99 = 2.3263;
+
+    private static final String JSON = "application/json";
+
+    /**
+     * Vendor hosts served by the stub.
+     */
+    public enum Host {
+        MURATA("murata", 1),
+        MURATA_SITESEARCH("sitesearch", 2),
+        TDK("tdk", 3),
+        KEMET("kemet", 4);
+
+        private final String key;
+
+        private final int portOffset;
+
+        Host(final String key, final int portOffset) {
+            this.key = key;
+            this.portOffset = portOffset;
+        }
+    }
+
+    private final Map<Host, DisposableServer> servers = new EnumMap<>(Host.class);
+
+    /** Scaled fixture bodies keyed by fixture and row count. */
+    private final Map<String, byte[]> bodies = new ConcurrentHashMap<>();
+
+    private VendorStubServer() {
+    }
+
+    /**
+     * Starts one server per vendor host.
+     *
+     * @param props {@code stub.*} settings, typically {@link System#getProperties()}
+     * @return the running stub
+     */
+    public static VendorStubServer start(final Properties props) {
+        VendorStubServer stub = new VendorStubServer();
+        int basePort = Integer.parseInt(props.getProperty("stub.port", String.valueOf(DEFAULT_BASE_PORT)));
+        for (Host host : Host.values()) {
+            Behavior behavior = Behavior.of(props, host);
+            DisposableServer server = HttpServer.create()
+                    .host("127.0.0.1")
+                    .port(basePort + host.portOffset)
+                    .protocol(HttpProtocol.HTTP11, HttpProtocol.H2C)
+                    .route(routes -> {
+                        switch (host) {
+                            case MURATA -> routes
+                                    .get("/webapi/PsdispRest", (req, res) -> stub.respond(behavior, res,
+                                            Mono.just(stub.body("murata", queryRows(req, "rows", behavior),
+                                                    GridFixtures::murata)), JSON))
+                                    .get("/webapi/SearchCrossReference", (req, res) -> stub.respond(behavior, res,
+                                            Mono.just(stub.body("murata-xref", queryRows(req, "rows", behavior),
+                                                    GridFixtures::murataCrossRef)), JSON));
+                            case MURATA_SITESEARCH -> routes
+                                    .get("/search/product", (req, res) -> stub.respond(behavior, res,
+                                            Mono.just(stub.raw("murata-sitesearch.json")), JSON));
+                            case TDK -> routes
+                                    .get("/en/search/list", (req, res) -> stub.respond(behavior,
+                                            res.header(HttpHeaderNames.SET_COOKIE, "bm_sv=stub; Path=/"),
+                                            Mono.just(stub.raw("tdk-search-list.html")), "text/html"))
+                                    .post("/pdc_api/en/search/list/search_result", (req, res) -> stub.respond(
+                                            behavior, res, formRows(req, "_l", behavior)
+                                                    .map(rows -> stub.body("tdk", rows, GridFixtures::tdk)), JSON));
+                            case KEMET -> routes
+                                    .post("/en/us/search.products.json", (req, res) -> stub.respond(behavior, res,
+                                            req.receive().then(Mono.fromSupplier(() ->
+                                                    stub.body("kemet", behavior.rows, GridFixtures::kemet))), JSON));
+                            default -> throw new IllegalStateException("Unhandled host " + host);
+                        }
+                    })
+                    .bindNow();
+            stub.servers.put(host, server);
+            LOG.info("Vendor stub '{}' listening on {} ({})", host.key, server.port(), behavior);
+        }
+        return stub;
+    }
+
+    /**
+     * @param host vendor host
+     * @return the port it is served on
+     */
+    public int port(final Host host) {
+        return servers.get(host).port();
+    }
+
+    @Override
+    public void close() {
+        servers.values().forEach(DisposableServer::disposeNow);
+        servers.clear();
+    }
+
+    /**
+     * Runs the stub until the JVM is stopped.
+     *
+     * @param args ignored; configure with {@code -Dstub.*}
+     */
+    public static void main(final String[] args) {
+        VendorStubServer stub = start(System.getProperties());
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+        stub.servers.get(Host.MURATA).onDispose().block();
+    }
+
+    private Mono<Void> respond(final Behavior behavior,
+                               final HttpServerResponse res,
+                               final Mono<byte[]> body,
+                               final String contentType) {
+        if (!behavior.throttle.tryAcquire()) {
+            return res.status(HttpResponseStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaderNames.RETRY_AFTER, "1")
+                    .send()
+                    .then();
+        }
+        boolean fail = ThreadLocalRandom.current().nextDouble() < behavior.errorRate;
+        return Mono.delay(behavior.sampleLatency())
+                .then(body)
+                .flatMap(bytes -> fail
+                        ? res.status(HttpResponseStatus.INTERNAL_SERVER_ERROR)
+                                .header(HttpHeaderNames.CONTENT_TYPE, JSON)
+                                .sendString(Mono.just("{\"error\":\"stub failure\"}"))
+                                .then()
+                        : res.header(HttpHeaderNames.CONTENT_TYPE, contentType)
+                                .sendByteArray(Mono.just(bytes))
+                                .then());
+    }
+
+    private byte[] body(final String fixture, final int rows, final IntFunction<byte[]> scale) {
+        return bodies.computeIfAbsent(fixture + ':' + rows, k -> scale.apply(rows));
+    }
+
+    private byte[] raw(final String name) {
+        return bodies.computeIfAbsent(name, GridFixtures::raw);
+    }
+
+    private static int queryRows(final HttpServerRequest req, final String param, final Behavior behavior) {
+        return rows(new QueryStringDecoder(req.uri()).parameters().get(param), behavior);
+    }
+
+    private static Mono<Integer> formRows(final HttpServerRequest req, final String param, final Behavior behavior) {
+        return req.receive().aggregate().asString(StandardCharsets.UTF_8)
+                .defaultIfEmpty("")
+                .map(form -> rows(new QueryStringDecoder(form, false).parameters().get(param), behavior));
+    }
+
+    private static int rows(final List<String> values, final Behavior behavior) {
+        if (values == null || values.isEmpty()) {
+            return behavior.rows;
+        }
+        try {
+            return Math.clamp(Integer.parseInt(values.get(0)), 1, MAX_ROWS);
+        } catch (NumberFormatException e) {
+            return behavior.rows;
+        }
+    }
+
+    /**
+     * Latency, failure and throttling settings of one host.
+     */
+    private static final class Behavior {
+
+        private final Duration median;
+
+        private final Duration p99;
+
+        private final double mu;
+
+        private final double sigma;
+
+        private final double errorRate;
+
+        private final int rows;
+
+        private final Throttle throttle;
+
+        private Behavior(final Duration median, final Duration p99, final double errorRate,
+                         final int throttleRps, final int rows) {
+            this.median = median;
+            this.p99 = p99.compareTo(median) < 0 ? median : p99;
+            this.mu = Math.log(Math.max(1, median.toNanos()));
+            this.sigma = Math.log((double) Math.max(1, this.p99.toNanos()) / Math.max(1, median.toNanos())) / Z_P99;
+            this.errorRate = errorRate;
+            this.rows = Math.clamp(rows, 1, MAX_ROWS);
+            this.throttle = new Throttle(throttleRps);
+        }
+
+        static Behavior of(final Properties props, final Host host) {
+            return new Behavior(
+                    DurationStyle.detectAndParse(setting(props, host, "latency.median", "80ms")),
+                    DurationStyle.detectAndParse(setting(props, host, "latency.p99", "400ms")),
+                    Double.parseDouble(setting(props, host, "error-rate", "0")),
+                    Integer.parseInt(setting(props, host, "throttle.rps", "0")),
+                    Integer.parseInt(setting(props, host, "rows", "20")));
+        }
+
+        private static String setting(final Properties props, final Host host, final String key, final String def) {
+            return props.getProperty("stub." + host.key + "." + key, props.getProperty("stub." + key, def));
+        }
+
+        Duration sampleLatency() {
+            if (sigma == 0) {
+                return median;
+            }
+            double nanos = Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian());
+            return Duration.ofNanos((long) nanos);
+        }
+
+        @Override
+        public String toString() {
+            return "latency median=" + median.toMillis() + "ms p99=" + p99.toMillis() + "ms, error-rate="
+                    + errorRate + ", throttle=" + (throttle.intervalNanos == 0 ? "off" : throttle.rps + " rps");
+        }
+    }
+
+    /**
+     * GCRA limiter answering whether a request fits the host's request rate.
+     */
+    private static final class Throttle {
+
+        private final int rps;
+
+        private final long intervalNanos;
+
+        private final long toleranceNanos;
+
+        private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+        Throttle(final int rps) {
+            this.rps = rps;
+            this.intervalNanos = rps > 0 ? 1_000_000_000L / rps : 0;
+            this.toleranceNanos = intervalNanos * Math.max(0, rps - 1); // one second of burst
+        }
+
+        boolean tryAcquire() {
+            if (intervalNanos == 0) {
+                return true;
+            }
+            long now = System.nanoTime();
+            while (true) {
+                long tat = theoreticalArrival.get();
+                long start = Math.max(tat, now);
+                if (start - now > toleranceNanos) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(tat, start + intervalNanos)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.components.scraper.ai;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Collects concurrent {@code cate} lookups into micro-batches, so many unknown
+ * part numbers cost one chat completion instead of one each.
+ *
+ * <p>A batch is sent once it holds {@code maxSize} part numbers or {@code window}
+ * after its first one arrived, whichever comes first; at most {@code concurrency}
+ * batches are in flight. Each waiter receives the raw answer for its own part
+ * number – completing empty when the model left it out – and validates it itself.
+ * A failed call fails every waiter of that batch.</p>
+ *
+ * <p>Batch sizes are published as {@code llm.cate.batch.size}.</p>
+ */
+@Slf4j
+final class CateBatcher implements Disposable {
+
+    /**
+     * How long a producer spins when another thread is emitting at the same time.
+     */
+    private static final Duration EMIT_CONTENTION_LIMIT = Duration.ofMillis(100);
+
+    private final Sinks.Many<Pending> queue = Sinks.many().unicast().onBackpressureBuffer();
+
+    private final Function<List<String>, Mono<Map<String, String>>> ask;
+
+    private final DistributionSummary batchSizes;
+
+    private final Disposable subscription;
+
+    /**
+     * @param maxSize     most part numbers per completion
+     * @param window      longest wait for a batch to fill
+     * @param concurrency most batches in flight
+     * @param ask         sends one batch and answers part number → raw {@code cate}
+     * @param registry    meter registry for the batch size summary
+     */
+    CateBatcher(final int maxSize,
+                final Duration window,
+                final int concurrency,
+                final Function<List<String>, Mono<Map<String, String>>> ask,
+                final MeterRegistry registry) {
+        this.ask = ask;
+        this.batchSizes = DistributionSummary.builder("llm.cate.batch.size")
+                .description("Part numbers per batched LLM cate completion")
+                .register(registry);
+        this.subscription = queue.asFlux()
+                .bufferTimeout(maxSize, window, true)
+                .flatMap(this::dispatch, concurrency)
+                .subscribe();
+    }
+
+    /**
+     * Queues a part number for the next batch.
+     *
+     * @param partNumber the normalized part number
+     * @return the model's raw answer for it, or empty when it gave none
+     */
+    Mono<String> submit(final String partNumber) {
+        return Mono.create(sink -> queue.emitNext(new Pending(partNumber, sink),
+                Sinks.EmitFailureHandler.busyLooping(EMIT_CONTENTION_LIMIT)));
+    }
+
+    @Override
+    public void dispose() {
+        queue.tryEmitComplete();
+        subscription.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return subscription.isDisposed();
+    }
+
+    private Mono<Void> dispatch(final List<Pending> batch) {
+        List<String> parts = batch.stream()
+                .map(Pending::partNumber)
+                .distinct()
+                .toList();
+        batchSizes.record(parts.size());
+        log.debug("Sending batched cate lookup for {} part numbers", parts.size());
+
+        return Mono.defer(() -> ask.apply(parts))
+                .defaultIfEmpty(Map.of())
+                .doOnNext(answers -> batch.forEach(p -> p.complete(answers.get(p.partNumber()))))
+                .doOnError(e -> batch.forEach(p -> p.sink().error(e)))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * A waiting caller.
+     */
+    private record Pending(String partNumber, MonoSink<String> sink) {
+
+        void complete(@Nullable final String answer) {
+            if (answer == null || answer.isEmpty()) {
+                sink.success();
+            } else {
+                sink.success(answer);
+            }
+        }
+    }
+}
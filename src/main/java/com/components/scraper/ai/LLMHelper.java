@@ -1,30 +1,41 @@
 package com.components.scraper.ai;
 
+import com.components.scraper.config.ScraperProperties;
+import com.components.scraper.service.core.VendorMetrics;
+import com.components.scraper.service.core.VendorOperation;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.decorators.Decorators;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
 import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.http.HttpHeaders;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.components.scraper.config.OpenAIProperties;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 @Slf4j
 @Component
-public class LLMHelper {
+public class LLMHelper implements DisposableBean {
 
     /**
      * Endpoint for completions.
@@ -36,6 +47,11 @@ public class LLMHelper {
      */
     private static final Duration TIMEOUT = Duration.ofSeconds(15);
 
+    /**
+     * {@code vendor} tag of the LLM call meters.
+     */
+    private static final String METRICS_VENDOR = "openai";
+
     /**
      * All valid cate values (expand whenever Murata introduces a new category).
      */
@@ -84,6 +100,26 @@ public class LLMHelper {
             When asked, respond with **only** the cate value.
             """;
 
+    /**
+     * OpenAI system prompt for a batch of part numbers, one per user-message line.
+     */
+    private static final String BATCH_SYSTEM_PROMPT_TEMPLATE = """
+            You are an expert on Murata’s PsdispRest API.
+            Each line of the user message is one valid Murata part number. For every part
+            number, find exactly the correct `cate` query value used in the endpoint:
+              https://www.murata.com/webapi/PsdispRest?cate=…
+            Respond with ONLY a JSON object whose keys are the part numbers exactly as given
+            and whose values are one of these cate values:
+            %s
+            Use these exact examples to guide you:
+            %s
+            """;
+
+    /**
+     * Characters stripped from a returned cate value.
+     */
+    private static final String CATE_NOISE = "[\"'`\\s]";
+
     /**
      * Example part-to-cate mappings for the system prompt.
      */
@@ -109,9 +145,25 @@ public class LLMHelper {
     private final CircuitBreaker circuitBreaker;
 
     /**
-     * quick local cache to avoid repeated lookups.
+     * Memory + disk cache of validated answers, keyed by prompt and model.
+     */
+    private final LlmResponseCache responseCache;
+
+    /**
+     * Micro-batches concurrent cate lookups; {@code null} when {@code scraper.llm-batch} is disabled.
      */
-    private final Map<String, String> cateCache = new ConcurrentHashMap<>();
+    @Nullable
+    private final CateBatcher cateBatcher;
+
+    /**
+     * Longest time a blocking caller waits for its batched answer.
+     */
+    private final Duration batchTimeout;
+
+    /**
+     * Parses the model's JSON answers.
+     */
+    private final ObjectMapper mapper = new ObjectMapper();
 
     /**
      * LLM client.
@@ -128,21 +180,52 @@ public class LLMHelper {
      *   <li>A Resilience4j {@link CircuitBreaker} to prevent cascading failures when the OpenAI endpoint is unavailable.</li>
      * </ul>
      * It also builds a dedicated {@link WebClient} instance pre-configured with the
-     * OpenAI base URL and Bearer authorization header for subsequent AI calls.</p>
+     * OpenAI base URL and Bearer authorization header for subsequent AI calls, timed
+     * as {@code vendor.request{vendor=openai,operation=llm}}. Unless
+     * {@code scraper.llm-batch.enabled} is off, cate lookups are sent through a
+     * {@link CateBatcher}.</p>
      *
      * @param props            configuration properties for OpenAI (must not be {@code null})
      * @param retry            Resilience4j retry configuration (must not be {@code null})
      * @param circuitBreaker   Resilience4j circuit breaker configuration (must not be {@code null})
+     * @param registry         meter registry for the LLM call meters (must not be {@code null})
+     * @param responseCache    cache of earlier answers (must not be {@code null})
+     * @param scraperProps     scraper settings holding {@code scraper.llm-batch.*} (must not be {@code null})
      * @throws NullPointerException if any of the parameters are {@code null}
      */
-    public LLMHelper(final OpenAIProperties props, final Retry retry, final CircuitBreaker circuitBreaker) {
+    public LLMHelper(final OpenAIProperties props,
+                     final Retry retry,
+                     final CircuitBreaker circuitBreaker,
+                     final MeterRegistry registry,
+                     final LlmResponseCache responseCache,
+                     final ScraperProperties scraperProps) {
         this.props = Objects.requireNonNull(props);
         this.retry = Objects.requireNonNull(retry);
         this.circuitBreaker = Objects.requireNonNull(circuitBreaker);
+        this.responseCache = Objects.requireNonNull(responseCache);
         this.openAiClientWeb = WebClient.builder()
                 .baseUrl(props.getBaseUrl())
                 .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + props.getKey())
+                .defaultRequest(r -> r.attribute(VendorMetrics.OPERATION_ATTRIBUTE, VendorOperation.LLM))
+                .filter(new VendorMetrics(METRICS_VENDOR, Objects.requireNonNull(registry)))
                 .build();
+
+        ScraperProperties.LlmBatch batch = scraperProps.getLlmBatch();
+        this.batchTimeout = TIMEOUT.plus(batch.getWindow());
+        this.cateBatcher = batch.isEnabled()
+                ? new CateBatcher(batch.getMaxSize(), batch.getWindow(), batch.getConcurrency(),
+                        this::askModelForCates, registry)
+                : null;
+    }
+
+    /**
+     * Stops the cate batcher.
+     */
+    @Override
+    public void destroy() {
+        if (cateBatcher != null) {
+            cateBatcher.dispose();
+        }
     }
 
     /**
@@ -193,8 +276,10 @@ public class LLMHelper {
      * <ul>
      *   <li>Validates that <code>partNumber</code> is non‐blank.</li>
      *   <li>Normalizes to uppercase and trims whitespace.</li>
-     *   <li>Checks an in‐memory cache for a previously computed value.</li>
-     *   <li>Invokes {@link #askModelForCate(String, boolean)} to fetch from the LLM once.</li>
+     *   <li>Checks the {@link LlmResponseCache} (memory, then disk) for a previous answer.</li>
+     *   <li>Asks the LLM once, through the {@link CateBatcher} when batching is enabled
+     *       (blocking until the batch answers), otherwise via
+     *       {@link #askModelForCate(String, boolean)}.</li>
      *   <li>Validates against a known set of allowed <code>cate</code> values.</li>
      *   <li>If valid, stores in cache and returns; otherwise logs a warning and returns
      *       the (invalid) string for further handling by the caller.</li>
@@ -212,18 +297,22 @@ public class LLMHelper {
         // normalize part number to uppercase (Murata parts are case‑insensitive)
         String partNumberNormalized = partNumber.trim().toUpperCase();
 
-        // 1) cache short‑circuit
-        String cached = cateCache.get(partNumberNormalized);
-        if (cached != null) {
-            return cached;
+        // 1) cache short‑circuit (memory, then disk)
+        String model = props.getDefaultModel();
+        Optional<String> cached = responseCache.get(LlmResponseCache.KIND_CATE, model, partNumberNormalized)
+                .filter(this::isValidCate);
+        if (cached.isPresent()) {
+            return cached.get();
         }
 
         // 2) attempt LLM with optional retry
         String cate = null;
         try {
-            cate = askModelForCate(partNumberNormalized, false /*use stricter prompt on retry*/);
+            cate = cateBatcher != null
+                    ? cateBatcher.submit(partNumberNormalized).block(batchTimeout)
+                    : askModelForCate(partNumberNormalized, false /*use stricter prompt on retry*/);
             if (isValidCate(cate)) {
-                cateCache.put(partNumberNormalized, cate);
+                responseCache.put(LlmResponseCache.KIND_CATE, model, partNumberNormalized, cate);
                 return cate;
             }
             log.warn("Received invalid cate '{}' for part {}", cate, partNumberNormalized);
@@ -233,6 +322,45 @@ public class LLMHelper {
         return cate;
     }
 
+    /**
+     * Non-blocking variant of {@link #callAiForCate(String)} for reactive callers.
+     * Concurrent calls share batched completions when batching is enabled.
+     *
+     * @param partNumber the Murata part number (non‐blank)
+     * @return the validated <code>cate</code>, or empty if the model failed or gave an invalid answer
+     * @throws IllegalArgumentException if <code>partNumber</code> is {@code null} or blank
+     */
+    public Mono<String> cateAsync(final String partNumber) {
+        if (partNumber == null || partNumber.isBlank()) {
+            throw new IllegalArgumentException("partNumber is blank");
+        }
+        String partNumberNormalized = partNumber.trim().toUpperCase();
+        String model = props.getDefaultModel();
+        Optional<String> cached = responseCache.get(LlmResponseCache.KIND_CATE, model, partNumberNormalized)
+                .filter(this::isValidCate);
+        if (cached.isPresent()) {
+            return Mono.just(cached.get());
+        }
+
+        Mono<String> answer = cateBatcher != null
+                ? cateBatcher.submit(partNumberNormalized)
+                : protect(Mono.fromCallable(() -> askModelForCate(partNumberNormalized, false))
+                        .subscribeOn(Schedulers.boundedElastic()));
+        return answer
+                .filter(cate -> {
+                    if (isValidCate(cate)) {
+                        return true;
+                    }
+                    log.warn("Received invalid cate '{}' for part {}", cate, partNumberNormalized);
+                    return false;
+                })
+                .doOnNext(cate -> responseCache.put(LlmResponseCache.KIND_CATE, model, partNumberNormalized, cate))
+                .onErrorResume(e -> {
+                    log.error("LLM invocation failed for part {}: {}", partNumberNormalized, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
     /**
      * Validates that a <code>cate</code> string is one of the known, supported Murata categories.
      *
@@ -287,12 +415,69 @@ public class LLMHelper {
 
         String result = response.at("/choices/0/message/content").asText().trim();
         // remove any accidental quotes or formatting characters
-        result = result.replaceAll("[\"'`\\s]", "");
+        result = result.replaceAll(CATE_NOISE, "");
 
         log.info("Start to retrieve cate: code: {} with result {}", partNumber, result);
         return result;
     }
 
+    /**
+     * Sends one JSON-mode chat completion for a batch of part numbers.
+     * <p>
+     * The user message lists the part numbers one per line; the model answers with a
+     * JSON object mapping each of them to a <code>cate</code>. Answers are returned
+     * raw (sanitized but not validated), keyed by upper-cased part number, and part
+     * numbers the model left out are simply absent.
+     *
+     * @param partNumbers normalized part numbers, without duplicates
+     * @return part number → raw <code>cate</code>
+     */
+    private Mono<Map<String, String>> askModelForCates(final List<String> partNumbers) {
+        String systemPrompt = String.format(BATCH_SYSTEM_PROMPT_TEMPLATE,
+                String.join("\n", VALID_CATE_SET), String.join("\n", SAMPLE_CASES));
+        Map<String, Object> payload = Map.of(
+                "model", props.getDefaultModel(),
+                "temperature", 0,
+                "response_format", Map.of("type", "json_object"),
+                "messages", List.of(
+                        Map.of("role", "system", "content", systemPrompt),
+                        Map.of("role", "user", "content", String.join("\n", partNumbers)))
+        );
+        log.info("Start to retrieve cate for {} part numbers", partNumbers.size());
+        return openAiClientWeb.post()
+                .uri(URI.create(props.getBaseUrl() + CHAT_COMPLETION_ENDPOINT))
+                .bodyValue(payload)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(TIMEOUT)
+                .map(this::readCates)
+                .transform(this::protect);
+    }
+
+    /**
+     * Applies the {@link CircuitBreaker} and {@link Retry} that guard
+     * {@link #determineCate(String, UnaryOperator)} to a reactive model call, so an
+     * open circuit fails fast instead of waiting out {@link #TIMEOUT}.
+     */
+    private <T> Mono<T> protect(final Mono<T> call) {
+        return call
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(RetryOperator.of(retry));
+    }
+
+    private Map<String, String> readCates(final JsonNode response) {
+        JsonNode answers = readJson(response.at("/choices/0/message/content").asText(""));
+        if (answers == null || !answers.isObject()) {
+            throw new IllegalStateException("Batched cate answer is not a JSON object");
+        }
+        Map<String, String> byPart = new HashMap<>();
+        for (Map.Entry<String, JsonNode> e : answers.properties()) {
+            byPart.put(e.getKey().trim().toUpperCase(Locale.ROOT),
+                    e.getValue().asText("").replaceAll(CATE_NOISE, ""));
+        }
+        return byPart;
+    }
+
     /**
      * Builds the system prompt for OpenAI, optionally adding a brevity hint
      * on retries.
@@ -316,6 +501,13 @@ public class LLMHelper {
      */
     public @Nullable JsonNode classify(String details) {
 
+        String model = props.getDefaultModel();
+        Optional<JsonNode> cached = responseCache.get(LlmResponseCache.KIND_CLASSIFY, model, details)
+                .map(this::readJson);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         Map<String,Object> payload = Map.of(
                 "model",        props.getDefaultModel(),
                 "temperature",  0,
@@ -357,9 +549,16 @@ public class LLMHelper {
         if (root == null) return null;
 
         String json = root.at("/choices/0/message/content").asText("");
-        log.info("");
+        JsonNode filters = readJson(json);
+        if (filters != null && filters.isObject()) {
+            responseCache.put(LlmResponseCache.KIND_CLASSIFY, model, details, filters.toString());
+        }
+        return filters;
+    }
+
+    private @Nullable JsonNode readJson(final String json) {
         try {
-            return new ObjectMapper().readTree(json);
+            return mapper.readTree(json);
         } catch (Exception ex) {
             return null;
         }
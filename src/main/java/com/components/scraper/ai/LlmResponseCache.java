@@ -0,0 +1,242 @@
+package com.components.scraper.ai;
+
+import com.components.scraper.config.ScraperProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.h2.mvstore.MVStoreException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Two-level cache for LLM answers, so a repeated prompt costs neither an
+ * OpenAI round trip nor tokens.
+ *
+ * <ul>
+ *   <li><b>Memory</b> – Caffeine, bounded by {@code scraper.llm-cache.max-size}.</li>
+ *   <li><b>Disk</b> – an H2 MVStore file ({@code scraper.llm-cache.file}) that
+ *       survives restarts; non-expired entries are loaded into memory on startup
+ *       when {@code warm-load} is set. A blank file name keeps the cache in memory only.</li>
+ *   <li><b>TTL</b> – {@code scraper.llm-cache.ttl} from the first answer; entries
+ *       loaded from disk keep their original expiry.</li>
+ * </ul>
+ * <p>Keys combine the kind of question, the model and the prompt text with
+ * whitespace normalised. Case is kept: part numbers and units such as mF/MF or
+ * mΩ/MΩ differ only by it. Callers store only answers they consider valid.</p>
+ */
+@Slf4j
+@Component
+public class LlmResponseCache implements DisposableBean {
+
+    /** Kind of question: Murata {@code cate} for a part number. */
+    public static final String KIND_CATE = "cate";
+
+    /** Kind of question: parametric filters for a free-text description. */
+    public static final String KIND_CLASSIFY = "classify";
+
+    private static final String MAP_NAME = "llm-responses";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** Separates the expiry from the answer in a stored value. */
+    private static final char VALUE_SEPARATOR = '\n';
+
+    private final boolean enabled;
+
+    private final Duration ttl;
+
+    private final Cache<String, Entry> memory;
+
+    @Nullable
+    private final MVStore store;
+
+    @Nullable
+    private final MVMap<String, String> disk;
+
+    /**
+     * @param props    scraper settings holding {@code scraper.llm-cache.*}
+     * @param registry meter registry for the {@code cache.*} metrics
+     */
+    public LlmResponseCache(final ScraperProperties props, final MeterRegistry registry) {
+        ScraperProperties.LlmCache cfg = props.getLlmCache();
+        this.enabled = cfg.isEnabled();
+        this.ttl = cfg.getTtl();
+        this.memory = Caffeine.newBuilder()
+                .maximumSize(cfg.getMaxSize())
+                .expireAfter(new RemainingTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, memory, "llm-responses");
+
+        this.store = enabled ? openStore(cfg.getFile()) : null;
+        this.disk = store != null ? store.openMap(MAP_NAME) : null;
+        if (disk != null && cfg.isWarmLoad()) {
+            warmLoad(cfg.getMaxSize());
+        }
+    }
+
+    /**
+     * @param kind   {@link #KIND_CATE} or {@link #KIND_CLASSIFY}
+     * @param model  model the answer came from
+     * @param prompt the user prompt
+     * @return the cached answer, if any and not expired
+     */
+    public Optional<String> get(final String kind, final String model, final String prompt) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String key = key(kind, model, prompt);
+        Entry entry = memory.getIfPresent(key);
+        if (entry == null && disk != null) {
+            entry = decode(disk.get(key));
+            if (entry != null) {
+                if (entry.isExpired()) {
+                    disk.remove(key);
+                    entry = null;
+                } else {
+                    memory.put(key, entry);
+                }
+            }
+        }
+        return Optional.ofNullable(entry).map(Entry::value);
+    }
+
+    /**
+     * Stores an answer in both tiers.
+     *
+     * @param kind   {@link #KIND_CATE} or {@link #KIND_CLASSIFY}
+     * @param model  model the answer came from
+     * @param prompt the user prompt
+     * @param value  the answer
+     */
+    public void put(final String kind, final String model, final String prompt, final String value) {
+        if (!enabled) {
+            return;
+        }
+        String key = key(kind, model, prompt);
+        Entry entry = new Entry(value, System.currentTimeMillis() + ttl.toMillis());
+        memory.put(key, entry);
+        if (disk != null) {
+            disk.put(key, entry.expiresAt() + String.valueOf(VALUE_SEPARATOR) + value);
+        }
+    }
+
+    /**
+     * Flushes and closes the disk tier.
+     */
+    @Override
+    public void destroy() {
+        if (store != null && !store.isClosed()) {
+            store.close();
+        }
+    }
+
+    static String key(final String kind, final String model, final String prompt) {
+        String normalized = WHITESPACE.matcher(prompt.trim()).replaceAll(" ");
+        return kind + '|' + model + '|' + normalized;
+    }
+
+    @Nullable
+    private static MVStore openStore(final String file) {
+        if (file == null || file.isBlank()) {
+            log.info("LLM response cache kept in memory only");
+            return null;
+        }
+        try {
+            Path path = Path.of(file).toAbsolutePath();
+            Files.createDirectories(path.getParent());
+            MVStore mv = new MVStore.Builder()
+                    .fileName(path.toString())
+                    .compress()
+                    .open();
+            log.info("LLM response cache persisted to {}", path);
+            return mv;
+        } catch (IOException | MVStoreException ex) {
+            log.warn("Cannot open LLM response cache file {}, keeping it in memory only: {}", file, ex.toString());
+            return null;
+        }
+    }
+
+    private void warmLoad(final long maxEntries) {
+        long loaded = 0;
+        long purged = 0;
+        Iterator<Map.Entry<String, String>> it = disk.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, String> e = it.next();
+            Entry entry = decode(e.getValue());
+            if (entry == null || entry.isExpired()) {
+                disk.remove(e.getKey());
+                purged++;
+            } else if (loaded < maxEntries) {
+                memory.put(e.getKey(), entry);
+                loaded++;
+            }
+        }
+        log.info("LLM response cache warm-loaded {} entries ({} expired removed)", loaded, purged);
+    }
+
+    @Nullable
+    private static Entry decode(@Nullable final String stored) {
+        if (stored == null) {
+            return null;
+        }
+        int sep = stored.indexOf(VALUE_SEPARATOR);
+        if (sep < 0) {
+            return null;
+        }
+        try {
+            return new Entry(stored.substring(sep + 1), Long.parseLong(stored.substring(0, sep)));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Expires each entry at its stored {@link Entry#expiresAt()}.
+     */
+    private static final class RemainingTtl implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(@NonNull final String key, @NonNull final Entry value, final long currentTime) {
+            return Duration.ofMillis(Math.max(0, value.expiresAt() - System.currentTimeMillis())).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(@NonNull final String key, @NonNull final Entry value,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(@NonNull final String key, @NonNull final Entry value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * A cached answer and its absolute expiry in epoch milliseconds.
+     */
+    private record Entry(String value, long expiresAt) {
+
+        boolean isExpired() {
+            return expiresAt <= System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.components.scraper.config;
+
+import com.components.scraper.service.core.CaffeineMpnResultCache;
+import com.components.scraper.service.core.MpnResultCache;
+import com.components.scraper.service.core.PassThroughMpnResultCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Chooses the {@link MpnResultCache} implementation from {@code scraper.mpn-cache}.
+ */
+@Slf4j
+@Configuration
+public class MpnResultCacheConfiguration {
+
+    /**
+     * @param props    scraper settings holding {@code scraper.mpn-cache.*}
+     * @param vendors  vendor settings holding the per-vendor TTLs
+     * @param registry meter registry for cache statistics
+     * @return a Caffeine-backed cache, or a pass-through one when caching is disabled
+     */
+    @Bean
+    public MpnResultCache mpnResultCache(final ScraperProperties props,
+                                         final VendorProperties vendors,
+                                         final MeterRegistry registry) {
+        ScraperProperties.MpnCache cfg = props.getMpnCache();
+        if (!cfg.isEnabled()) {
+            log.info("MPN result cache disabled");
+            return new PassThroughMpnResultCache();
+        }
+        log.info("MPN result cache enabled, max weight {}", cfg.getMaxWeight());
+        return new CaffeineMpnResultCache(vendors, cfg.getMaxWeight().toBytes(), registry);
+    }
+}
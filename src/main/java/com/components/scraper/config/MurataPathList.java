@@ -50,6 +50,12 @@ public class MurataPathList {
          * Exact <code>cate</code> query parameter value required by Murata Web-API.
          */
         private String cate;
+
+        /**
+         * Part-number prefixes of the series in this category (optional), e.g.
+         * {@code GRM}; used by the local category classifier.
+         */
+        private List<String> prefixes = Collections.emptyList();
     }
 
 }
@@ -0,0 +1,195 @@
+package com.components.scraper.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Application-wide scraper settings bound from the {@code scraper} prefix.
+ *
+ * <p>Example application.yml snippet:
+ * <pre>
+ * scraper:
+ *   execution:
+ *     mode: virtual-threads
+ *     platform-threads: 200
+ *   mpn-cache:
+ *     enabled: true
+ *     max-weight: 64MB
+ *   llm-cache:
+ *     max-size: 10000
+ *     ttl: 30d
+ *     file: data/llm-cache.mv.db
+ *   llm-batch:
+ *     max-size: 50
+ *     window: 20ms
+ *   cate-classifier:
+ *     min-confidence: 0.8
+ *   bulk:
+ *     max-items: 5000
+ *   warmup:
+ *     timeout: 30s
+ * </pre>
+ * </p>
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "scraper")
+public class ScraperProperties {
+
+    /**
+     * How controllers execute vendor lookups.
+     */
+    private Execution execution = new Execution();
+
+    /**
+     * Result cache in front of the MPN search services.
+     */
+    private MpnCache mpnCache = new MpnCache();
+
+    /**
+     * Memory + disk cache of LLM answers.
+     */
+    private LlmCache llmCache = new LlmCache();
+
+    /**
+     * Micro-batching of concurrent LLM {@code cate} lookups.
+     */
+    private LlmBatch llmBatch = new LlmBatch();
+
+    /**
+     * Local part-number → {@code cate} classifier consulted before the LLM.
+     */
+    private CateClassifier cateClassifier = new CateClassifier();
+
+    /**
+     * Limits for {@code POST /api/search/mpn/bulk}.
+     */
+    private Bulk bulk = new Bulk();
+
+    /**
+     * Background vendor warm-up after start-up.
+     */
+    private Warmup warmup = new Warmup();
+
+    /**
+     * Threading model used to run a search request.
+     */
+    public enum ExecutionMode {
+
+        /** Non-blocking Reactor pipeline end to end; no thread waits on a vendor. */
+        REACTIVE,
+
+        /** Blocking service call dispatched onto a fresh Java 21 virtual thread. */
+        VIRTUAL_THREADS,
+
+        /** Blocking service call on a bounded platform-thread pool – the comparison baseline. */
+        PLATFORM_THREADS
+    }
+
+    /**
+     * Execution settings for the search controllers.
+     */
+    @Data
+    public static class Execution {
+
+        /** Selected threading model. */
+        private ExecutionMode mode = ExecutionMode.REACTIVE;
+
+        /** Pool size for {@link ExecutionMode#PLATFORM_THREADS} (mirrors Tomcat's default of 200). */
+        private int platformThreads = 200;
+
+        /** Maximum number of queued tasks for {@link ExecutionMode#PLATFORM_THREADS}. */
+        private int platformQueueCapacity = 10_000;
+    }
+
+    /**
+     * Global MPN result-cache settings; TTLs are configured per vendor.
+     */
+    @Data
+    public static class MpnCache {
+
+        /** {@code false} replaces the cache by a pass-through implementation. */
+        private boolean enabled = true;
+
+        /** Upper bound for the estimated size of all cached results. */
+        private DataSize maxWeight = DataSize.ofMegabytes(64);
+    }
+
+    /**
+     * LLM answer cache settings.
+     */
+    @Data
+    public static class LlmCache {
+
+        /** {@code false} sends every prompt to the model. */
+        private boolean enabled = true;
+
+        /** Most answers held in memory. */
+        private long maxSize = 10_000;
+
+        /** How long an answer is reused. */
+        private Duration ttl = Duration.ofDays(30);
+
+        /** H2 MVStore file persisting answers across restarts; blank keeps them in memory only. */
+        private String file = "data/llm-cache.mv.db";
+
+        /** Load the persisted answers into memory on startup. */
+        private boolean warmLoad = true;
+    }
+
+    /**
+     * LLM {@code cate} batching settings.
+     */
+    @Data
+    public static class LlmBatch {
+
+        /** {@code false} sends one completion per part number. */
+        private boolean enabled = true;
+
+        /** Most part numbers per completion. */
+        private int maxSize = 50;
+
+        /** Longest wait for a batch to fill before it is sent. */
+        private Duration window = Duration.ofMillis(20);
+
+        /** Most batch completions in flight. */
+        private int concurrency = 4;
+    }
+
+    /**
+     * Local category classifier settings.
+     */
+    @Data
+    public static class CateClassifier {
+
+        /** Local guesses at or above this confidence (0–1) are used without asking the LLM. */
+        private double minConfidence = 0.8;
+    }
+
+    /**
+     * Bulk search limits; per-vendor concurrency lives in {@code vendors.configs.<vendor>.bulk-concurrency}.
+     */
+    @Data
+    public static class Bulk {
+
+        /** Largest accepted number of items per request. */
+        private int maxItems = 5_000;
+    }
+
+    /**
+     * Vendor warm-up run in the background once the context is refreshed.
+     */
+    @Data
+    public static class Warmup {
+
+        /** Warm up connection pools and vendor sessions after start-up. */
+        private boolean enabled = true;
+
+        /** A vendor counts as ready once its warm-up finished or ran this long. */
+        private Duration timeout = Duration.ofSeconds(30);
+    }
+}
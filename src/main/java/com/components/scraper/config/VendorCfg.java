@@ -21,6 +21,12 @@ import java.util.Map;
 @Setter
 public class VendorCfg {
 
+    /**
+     * The vendor identifier this configuration was bound under
+     * (the key below {@code vendors.configs}); set by {@link VendorConfigFactory}.
+     */
+    private String name;
+
     /**
      * The base URL to which all vendor-specific API paths are relative.
      * <p>For example, "https://www.murata.com".</p>
@@ -71,16 +77,18 @@ public class VendorCfg {
     private String parametricSearchUrl;
 
     /**
-     * A mapping from MPN prefix (first 3 characters) to vendor-specific category code
+     * A mapping from MPN prefix to vendor-specific category code
      * for MPN-based searches.
-     * <p>Key is the uppercase 3-character prefix, value is the "cate" parameter.</p>
+     * <p>Key is a prefix of any length, matched case-insensitively with the longest
+     * matching prefix winning; value is the "cate" parameter.</p>
      */
     private Map<String, String> categories = new HashMap<>();
 
     /**
-     * A mapping from MPN prefix (first 3 characters) to vendor-specific category code
+     * A mapping from MPN prefix to vendor-specific category code
      * for cross-reference lookups.
-     * <p>Key is the uppercase 3-character prefix, value is the "cate" parameter.</p>
+     * <p>Key is a prefix of any length, matched case-insensitively with the longest
+     * matching prefix winning; value is the "cate" parameter.</p>
      */
     private Map<String, String> crossRefCategories = new HashMap<>();
 
@@ -94,16 +102,69 @@ public class VendorCfg {
      */
     private int pageSize = 20;
 
+    /**
+     * Largest page the vendor API honours; parametric and cross-reference results
+     * are fetched in pages of at most this size (defaults to {@code vendors.max-page-size})
+     */
+    private Integer maxPageSize;
+
+    /**
+     * Pages fetched in parallel once the first page reports the total (keep at or below rate-limit.burst)
+     */
+    private int pageConcurrency = 4;
+
+    /**
+     * Latency mode for MPN lookups: start the product query with the locally predicted
+     * category while the category lookup runs, and re-issue it only if the prediction
+     * was wrong (costs one extra request per misprediction)
+     */
+    private boolean speculativeMpnLookup = false;
+
     /**
      * Blocking timeout for one complete search
      */
     private Duration timeout = Duration.ofSeconds(10);
 
+    /**
+     * Max lookups in flight per bulk request (keep at or below rate-limit.max-queue)
+     */
+    private int bulkConcurrency = 8;
+
     /**
      * Simple client‑side rate limiting
      */
     private RateLimit rateLimit = new RateLimit();
 
+    /**
+     * Connection-pool settings for the shared per-host transport
+     */
+    private Pool pool = new Pool();
+
+    /**
+     * MPN result caching for this vendor
+     */
+    private Cache cache = new Cache();
+
+    /**
+     * Hedged GETs against slow responses (shared per host like the pool)
+     */
+    private Hedge hedge = new Hedge();
+
+    /**
+     * Adaptive limit of requests in flight (shared per host like the pool)
+     */
+    private Concurrency concurrency = new Concurrency();
+
+    /**
+     * Circuit breaker around every call to the host (shared per host like the pool)
+     */
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * Cap on concurrent calls to the host; calls over it fail fast
+     */
+    private Bulkhead bulkhead = new Bulkhead();
+
     @Data
     public static class RateLimit {
 
@@ -112,7 +173,134 @@ public class VendorCfg {
 
         /** Max burst capacity */
         private int burst = 5;
+
+        /** Longest a request may wait for a permit before it is rejected */
+        private Duration maxWait = Duration.ofSeconds(5);
+
+        /** Max number of requests waiting for a permit before new ones are rejected */
+        private int maxQueue = 100;
     }
-}
 
+    @Data
+    public static class Pool {
+
+        /** Maximum number of open connections to the vendor host */
+        private int maxConnections = 50;
+
+        /** How long a request may wait for a free connection */
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+        /** Idle connections older than this are closed */
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        /** Connections are recycled after this age, idle or not */
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        /** How often the background sweeper evicts idle/expired connections */
+        private Duration evictionInterval = Duration.ofSeconds(15);
+    }
+
+    @Data
+    public static class Cache {
+
+        /** Whether MPN lookups for this vendor are cached */
+        private boolean enabled = true;
+
+        /** How long a cached result lives after it was loaded */
+        private Duration ttl = Duration.ofHours(12);
+
+        /** Age after which a hit triggers a background refresh (stale-while-revalidate) */
+        private Duration refreshAfter = Duration.ofHours(1);
+
+        /** How long past {@code ttl} an entry may still answer when its reload fails */
+        private Duration staleIfError = Duration.ofHours(24);
+    }
+
+    @Data
+    public static class Hedge {
+
+        /** Send a second identical GET when the first is slower than usual */
+        private boolean enabled = false;
+
+        /** Observed latency quantile after which the second GET is sent */
+        private double quantile = 0.95;
+
+        /** Never hedge earlier than this */
+        private Duration minDelay = Duration.ofMillis(100);
+
+        /** Hedges allowed per request (0–1); hedging never more than doubles the load */
+        private double maxRatio = 0.1;
+
+        /** Calls observed per operation before hedging starts */
+        private int minSamples = 50;
+    }
+
+    @Data
+    public static class Concurrency {
+
+        /** Adapt the number of requests in flight to the vendor's latency */
+        private boolean enabled = true;
+
+        /** Limit before any latency was observed */
+        private int initialLimit = 10;
+
+        /** The limit never shrinks below this */
+        private int minLimit = 2;
+
+        /** The limit never grows above this; 0 uses {@code pool.max-connections} */
+        private int maxLimit = 0;
+
+        /** Latency increase over the long-term average tolerated before the limit shrinks */
+        private double rttTolerance = 1.5;
 
+        /** Factor applied to the limit on a 429/503 answer, a timeout or a slow cancel */
+        private double backoffRatio = 0.9;
+
+        /** A call cancelled after running this long (e.g. by a caller timeout) counts as a timeout */
+        private Duration slowCancel = Duration.ofSeconds(5);
+
+        /** Longest a request may wait for a free slot before it is rejected */
+        private Duration maxWait = Duration.ofSeconds(5);
+
+        /** Max number of requests waiting for a slot before new ones are rejected */
+        private int maxQueue = 100;
+    }
+
+    @Data
+    public static class CircuitBreaker {
+
+        /** Fail fast while the vendor keeps failing */
+        private boolean enabled = true;
+
+        /** Percentage of failed calls (5xx, 429, timeouts, connection errors) that opens the breaker */
+        private float failureRateThreshold = 50;
+
+        /** Calls slower than this count as slow */
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(10);
+
+        /** Percentage of slow calls that opens the breaker */
+        private float slowCallRateThreshold = 80;
+
+        /** Number of recent calls the rates are computed over */
+        private int slidingWindowSize = 20;
+
+        /** Calls needed in the window before the rates are evaluated */
+        private int minimumNumberOfCalls = 10;
+
+        /** How long the breaker stays open before trial calls are let through */
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+        /** Trial calls while half-open */
+        private int permittedCallsInHalfOpenState = 3;
+    }
+
+    @Data
+    public static class Bulkhead {
+
+        /** Reject calls over {@code max-concurrent-calls} instead of queueing them */
+        private boolean enabled = true;
+
+        /** Calls to the host in flight at once, including those waiting for a concurrency slot */
+        private int maxConcurrentCalls = 100;
+    }
+}
@@ -41,9 +41,14 @@ public class VendorConfigFactory {
      *                                  for the given vendor ID
      */
     public VendorCfg forVendor(final String id) {
-        return Optional.ofNullable(vendorProps.forName(id))
+        VendorCfg cfg = Optional.ofNullable(vendorProps.forName(id))
                 .orElseThrow(() -> new IllegalArgumentException(
                         "No <vendors." + id + "> section found in application.yml"));
+        cfg.setName(id);
+        if (cfg.getMaxPageSize() == null) {
+            cfg.setMaxPageSize(vendorProps.getMaxPageSize());
+        }
+        return cfg;
     }
 
 }
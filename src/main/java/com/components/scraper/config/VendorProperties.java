@@ -37,6 +37,9 @@ public class VendorProperties {
      */
     private final Map<String, VendorCfg> configs = new LinkedHashMap<>();
 
+    /**
+     * Default {@code max-page-size} for vendors that do not set their own.
+     */
     private Integer maxPageSize;
 
     /**
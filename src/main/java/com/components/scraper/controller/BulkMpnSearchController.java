@@ -0,0 +1,119 @@
+package com.components.scraper.controller;
+
+import com.components.scraper.dto.BulkMpnRequest;
+import com.components.scraper.dto.BulkMpnResult;
+import com.components.scraper.service.core.BulkMpnSearchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * REST controller for BOM-sized MPN searches.
+ * <p>
+ * Endpoint: <code>POST /api/search/mpn/bulk</code><br>
+ * Consumes: <code>application/json</code><br>
+ * Produces: <code>application/x-ndjson</code> (one result per line, written as
+ * each lookup completes), <code>text/event-stream</code> (one {@code result}
+ * event per item, id = item index, then a {@code complete} event) or
+ * <code>application/json</code> (one array once all lookups are done)
+ * </p>
+ *
+ * <h3>Example Request</h3>
+ * <pre>{@code
+ * POST /api/search/mpn/bulk
+ * Content-Type: application/json
+ * Accept: application/x-ndjson
+ *
+ * {
+ *   "vendor": "murata",
+ *   "items": [
+ *     { "mpn": "GRM0115C1C100GE01" },
+ *     { "mpn": "C0402C0G1C100D020BC", "vendor": "tdk" }
+ *   ]
+ * }
+ * }</pre>
+ *
+ * <h3>Example Response</h3>
+ * <pre>{@code
+ * {"index":1,"vendor":"tdk","mpn":"C0402C0G1C100D020BC","status":"OK","results":[ ... ]}
+ * {"index":0,"vendor":"murata","mpn":"GRM0115C1C100GE01","status":"NOT_FOUND"}
+ * }</pre>
+ *
+ * <h3>Error Handling</h3>
+ * <ul>
+ *   <li>400 BAD REQUEST: empty item list or more than {@code scraper.bulk.max-items} items</li>
+ *   <li>Per-item failures, including an unavailable vendor, are reported as {@code "status":"ERROR"} lines</li>
+ *   <li>Rows served from an expired cache entry while the vendor is unavailable carry a
+ *       {@code "degraded"} reason</li>
+ * </ul>
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/search/mpn/bulk")
+@RequiredArgsConstructor
+public class BulkMpnSearchController {
+
+    private final BulkMpnSearchService bulkService;
+
+    /**
+     * Looks up every item of the BOM.
+     *
+     * @param request vendor default and BOM lines
+     * @return one {@link BulkMpnResult} per item, in completion order
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<BulkMpnResult> searchBulk(@Valid @RequestBody final BulkMpnRequest request) {
+        return bulkService.search(request);
+    }
+
+    /**
+     * Server-Sent Events variant of {@link #searchBulk(BulkMpnRequest)}.
+     *
+     * @param request vendor default and BOM lines
+     * @return one {@code result} event per item, then a {@code complete} event carrying the item count
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamBulk(@Valid @RequestBody final BulkMpnRequest request) {
+        AtomicLong count = new AtomicLong();
+        return bulkService.search(request)
+                .<ServerSentEvent<Object>>map(result -> ServerSentEvent.builder()
+                        .id(Integer.toString(result.index()))
+                        .event("result")
+                        .data(result)
+                        .build())
+                .doOnNext(ev -> count.incrementAndGet())
+                .concatWith(Flux.defer(() -> Flux.just(ServerSentEvent.builder()
+                        .event("complete")
+                        .data(Map.of("items", count.get()))
+                        .build())));
+    }
+
+    /**
+     * Handles oversized requests.
+     *
+     * @param ex the exception containing the error details
+     * @return a {@link ResponseEntity} with HTTP 400 and a JSON body {"error": "..."}
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(final IllegalArgumentException ex) {
+        log.warn("Bad bulk request: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("error", ex.getMessage()));
+    }
+}
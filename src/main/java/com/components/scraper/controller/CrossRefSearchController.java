@@ -1,16 +1,17 @@
 package com.components.scraper.controller;
 
 import com.components.scraper.dto.CrossRefRequest;
-import com.components.scraper.service.core.CrossReferenceSearchService;
+import com.components.scraper.service.core.ReactiveCrossReferenceSearchService;
+import com.components.scraper.service.core.SearchDispatcher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
@@ -43,9 +44,14 @@ public class CrossRefSearchController {
 
     /**
      * Map of vendor identifiers (with suffix “CrossRefSvc”) to their
-     * {@link CrossReferenceSearchService} implementations.
+     * {@link ReactiveCrossReferenceSearchService} implementations.
      */
-    private final Map<String, CrossReferenceSearchService> crossRefServices;
+    private final Map<String, ReactiveCrossReferenceSearchService> crossRefServices;
+
+    /**
+     * Chooses between the reactive pipeline and a blocking call on virtual/platform threads.
+     */
+    private final SearchDispatcher dispatcher;
 
     /**
      * Perform a cross-reference search for a competitor part number against
@@ -57,23 +63,25 @@ public class CrossRefSearchController {
      *                          <li>{@code competitorMpn}: the competitor part number</li>
      *                          <li>{@code categoryPath}: optional list of categories or subcategories</li>
      *                        </ul>
-     * @return HTTP 200 with a JSON array of maps, each mapping field names to values,
-     * representing matched cross-reference entries
+     * @return a {@link Mono} completing the HTTP 200 response with a JSON array of maps, each mapping
+     * field names to values, representing matched cross-reference entries
      * @throws IllegalArgumentException if no service is registered for the given vendor
      */
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<Map<String, Object>>> searchByCrossRef(
+    public Mono<List<Map<String, Object>>> searchByCrossRef(
             @RequestParam("vendor") final String vendor,
             @RequestBody @Validated final CrossRefRequest crossRefRequest) {
 
         String competitorPart = crossRefRequest.competitorMpn();
-        CrossReferenceSearchService svc = crossRefServices.get(vendor + "CrossRefSvc");
+        ReactiveCrossReferenceSearchService svc = crossRefServices.get(vendor + "CrossRefSvc");
         if (svc == null) {
             throw new IllegalArgumentException("No X‑ref service for vendor " + vendor);
 
         }
 
-        return ResponseEntity.ok(svc.searchByCrossReference(competitorPart, crossRefRequest.categoryPath()));
+        return dispatcher.dispatch(
+                () -> svc.searchByCrossReference(competitorPart, crossRefRequest.categoryPath()),
+                () -> svc.searchByCrossReferenceReactive(competitorPart, crossRefRequest.categoryPath()));
     }
 }
@@ -1,15 +1,20 @@
 package com.components.scraper.controller;
 
 import com.components.scraper.dto.MpnRequest;
-import com.components.scraper.service.core.MpnSearchService;
+import com.components.scraper.service.core.Degradation;
+import com.components.scraper.service.core.MpnResultCache;
+import com.components.scraper.service.core.ReactiveMpnSearchService;
+import com.components.scraper.service.core.SearchDispatcher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
@@ -21,6 +26,18 @@ import java.util.Map;
  * a list of matching product records as JSON maps.
  * </p>
  * <p>
+ * The handler returns the vendor lookup as a {@link Mono}; Spring MVC completes the
+ * response asynchronously, so no servlet thread is held while the vendor answers.
+ * With {@code scraper.execution.mode} set to a thread-based mode the blocking
+ * service call is dispatched through {@link SearchDispatcher} instead.
+ * Results are served from the {@link MpnResultCache} when present.
+ * </p>
+ * <p>
+ * While the vendor's circuit breaker is open (or its bulkhead full) the lookup
+ * fails fast with HTTP 503, unless an expired cache entry can answer; such a
+ * response carries an {@code X-Data-Degraded} header naming the reason.
+ * </p>
+ * <p>
  * Endpoint: <code>POST /api/search/mpn</code><br>
  * Consumes: <code>application/json</code><br>
  * Produces: <code>application/json</code>
@@ -55,11 +72,21 @@ import java.util.Map;
 public class MpnSearchController {
 
     /**
-     * Map of Spring-managed {@link MpnSearchService} implementations keyed by bean name.
+     * Map of Spring-managed {@link ReactiveMpnSearchService} implementations keyed by bean name.
      * Injected map: key=bean‑name, value=implementation.
      * Expected keys have the pattern "{vendor}MpnSvc".
      */
-    private final Map<String, MpnSearchService> mpnServices;
+    private final Map<String, ReactiveMpnSearchService> mpnServices;
+
+    /**
+     * Chooses between the reactive pipeline and a blocking call on virtual/platform threads.
+     */
+    private final SearchDispatcher dispatcher;
+
+    /**
+     * Result cache keyed by vendor and normalized MPN.
+     */
+    private final MpnResultCache cache;
 
     /**
      * Handles POST requests to search for a product by its MPN.
@@ -70,27 +97,33 @@ public class MpnSearchController {
      *                  <li>{@code vendor}: the vendor identifier (e.g., "murata", "tdk")</li>
      *                  <li>{@code mpn}: the manufacturer part number to look up</li>
      *                </ul>
-     * @return a {@link List} of {@link Map} objects, each representing a product record
-     * @throws IllegalArgumentException if no {@link MpnSearchService} is configured for the specified vendor
+     * @return a {@link Mono} emitting a {@link List} of {@link Map} objects, each representing a product record,
+     *         with the {@value Degradation#HEADER} header when stale data had to answer
+     * @throws IllegalArgumentException if no {@link ReactiveMpnSearchService} is configured for the specified vendor
      */
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE)
-    public List<Map<String, Object>> searchByMpn(
+    public Mono<ResponseEntity<List<Map<String, Object>>>> searchByMpn(
             @RequestParam("vendor") final String vendor,
             @RequestBody @Validated final MpnRequest request) {
-        MpnSearchService svc = pick(vendor);
-        return svc.searchByMpn(request.mpn());
+        ReactiveMpnSearchService svc = pick(vendor);
+        Degradation degradation = new Degradation();
+        return cache.get(vendor, request.mpn(), () -> dispatcher.dispatch(
+                        () -> svc.searchByMpn(request.mpn()),
+                        () -> svc.searchByMpnReactive(request.mpn())))
+                .map(degradation::toResponse)
+                .contextWrite(degradation::attach);
     }
 
     /**
-     * Selects the appropriate {@link MpnSearchService} implementation based on vendor identifier.
+     * Selects the appropriate {@link ReactiveMpnSearchService} implementation based on vendor identifier.
      *
      * @param vendor the vendor key, matching the prefix of the bean name (e.g., "murata" → "murataMpnSvc")
-     * @return the {@link MpnSearchService} for that vendor
+     * @return the {@link ReactiveMpnSearchService} for that vendor
      * @throws IllegalArgumentException if no service bean is found for the given vendor
      */
-    private MpnSearchService pick(final String vendor) {
-        MpnSearchService service = mpnServices.get(vendor + "MpnSvc");
+    private ReactiveMpnSearchService pick(final String vendor) {
+        ReactiveMpnSearchService service = mpnServices.get(vendor + "MpnSvc");
         if (service == null) {
             throw new IllegalArgumentException("No MPN service for vendor " + vendor);
         }
@@ -1,12 +1,15 @@
 package com.components.scraper.controller;
 
 import com.components.scraper.dto.ParametricSearchRequest;
-import com.components.scraper.service.core.ParametricSearchService;
+import com.components.scraper.service.core.ReactiveParametricSearchService;
+import com.components.scraper.service.core.SearchDispatcher;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -15,10 +18,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
@@ -30,7 +34,8 @@ import java.util.Optional;
  * <p>
  * Endpoint: <code>POST /api/search/parametric?vendor={vendor}</code><br>
  * Consumes: <code>application/json</code><br>
- * Produces: <code>application/json</code>
+ * Produces: <code>application/json</code>, <code>application/x-ndjson</code>,
+ * <code>text/event-stream</code>
  * </p>
  *
  * <h3>Request Parameters</h3>
@@ -54,10 +59,16 @@ import java.util.Optional;
  *
  * <h3>Response</h3>
  * A JSON array of maps, each representing a product with its attribute–value pairs.
+ * The rows are produced by a non-blocking {@link Flux}; no servlet thread waits on the vendor.
+ * The thread-based execution modes run the blocking service call via {@link SearchDispatcher}.
+ * With {@code Accept: application/x-ndjson} every row is written as its own line as soon as
+ * it is parsed; with {@code Accept: text/event-stream} every row becomes a {@code row} event
+ * whose id is the row number, followed by a final {@code complete} event.
  *
  * <h3>Error Handling</h3>
  * <ul>
  *   <li>400 BAD REQUEST: Invalid vendor or missing/invalid request body</li>
+ *   <li>503 SERVICE UNAVAILABLE: the vendor's circuit breaker is open or its bulkhead is full</li>
  * </ul>
  */
 @Slf4j
@@ -68,13 +79,18 @@ import java.util.Optional;
 public class ParametricSearchController {
 
     /**
-     * All beans that implement {@link ParametricSearchService} will be
+     * All beans that implement {@link ReactiveParametricSearchService} will be
      * injected here automatically; the map key equals the Spring bean‑name.
      * <p>
      * Example:  "murataHttpParametricSearchService" ⇒ bean instance
      * "tdkHttpParametricSearchService"    ⇒ bean instance
      */
-    private final Map<String, ParametricSearchService> parametricServices;
+    private final Map<String, ReactiveParametricSearchService> parametricServices;
+
+    /**
+     * Chooses between the reactive pipeline and a blocking call on virtual/platform threads.
+     */
+    private final SearchDispatcher dispatcher;
 
     /**
      * Executes a parametric search based on the provided category, subcategory, and filter parameters.
@@ -87,26 +103,58 @@ public class ParametricSearchController {
      *                 <li>{@code parameters}: map of filter names to values, ranges, or lists</li>
      *                 <li>{@code maxResults}: maximum number of rows to return (optional)</li>
      *               </ul>
-     * @return a {@link ResponseEntity} with HTTP 200 and a JSON array of matching product maps,
-     *         or HTTP 400 if the vendor is not supported
+     * @return a {@link Flux} of matching product maps, written as a JSON array or as
+     *         newline-delimited JSON with HTTP 200; HTTP 400 if the vendor is not supported
+     */
+    @PostMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<Map<String, Object>> searchByParameters(
+            @RequestParam("vendor") final String vendor,
+            @Valid @RequestBody final ParametricSearchRequest dto) {
+        return rows(vendor, dto);
+    }
+
+    /**
+     * Server-Sent Events variant of {@link #searchByParameters(String, ParametricSearchRequest)}.
+     *
+     * @param vendor the vendor identifier (e.g., "murata", "tdk"); defaults to "murata" if blank
+     * @param dto    the request payload
+     * @return one {@code row} event per product, then a {@code complete} event carrying the row count
      */
-    @PostMapping
-    public ResponseEntity<List<Map<String, Object>>> searchByParameters(
+    @PostMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamByParameters(
             @RequestParam("vendor") final String vendor,
             @Valid @RequestBody final ParametricSearchRequest dto) {
+        AtomicLong count = new AtomicLong();
+        return rows(vendor, dto)
+                .<ServerSentEvent<Object>>map(row -> ServerSentEvent.builder()
+                        .id(Long.toString(count.getAndIncrement()))
+                        .event("row")
+                        .data(row)
+                        .build())
+                .concatWith(Flux.defer(() -> Flux.just(ServerSentEvent.builder()
+                        .event("complete")
+                        .data(Map.of("rows", count.get()))
+                        .build())));
+    }
+
+    private Flux<Map<String, Object>> rows(final String vendor, final ParametricSearchRequest dto) {
         String vendorKey = resolveVendorKey(vendor);
-        ParametricSearchService svc = Optional
+        ReactiveParametricSearchService svc = Optional
                 .ofNullable(parametricServices.get(vendorKey))
                 .orElseThrow(() -> new IllegalArgumentException(
                         "No parametric search service for vendor: " + vendor));
 
-        List<Map<String, Object>> rows = svc.searchByParameters(
-                dto.getCategory(),
-                dto.getSubcategory(),
-                dto.getParameters(),
-                dto.getMaxResultsOrDefault());
-
-        return ResponseEntity.ok(rows);
+        return dispatcher.dispatchMany(
+                () -> svc.searchByParameters(
+                        dto.getCategory(),
+                        dto.getSubcategory(),
+                        dto.getParameters(),
+                        dto.getMaxResultsOrDefault()),
+                () -> svc.searchByParametersReactive(
+                        dto.getCategory(),
+                        dto.getSubcategory(),
+                        dto.getParameters(),
+                        dto.getMaxResultsOrDefault()));
     }
 
     /**
@@ -130,6 +178,7 @@ public class ParametricSearchController {
     public ResponseEntity<Map<String, String>> handleBadRequest(final IllegalArgumentException ex) {
         log.warn("Bad request: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(Map.of("error", ex.getMessage()));
     }
 }
@@ -0,0 +1,35 @@
+package com.components.scraper.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Request payload for bulk MPN searches, e.g. one BOM.
+ * <p>
+ * Items may name their own vendor; items without one use the request-level
+ * {@code vendor}. Mixing vendors in one request is allowed.
+ * </p>
+ *
+ * @param vendor default vendor identifier for items that do not specify one; may be null
+ * @param items  the part numbers to look up; must not be empty
+ */
+public record BulkMpnRequest(
+        String vendor,
+        @NotEmpty List<@Valid Item> items
+) {
+
+    /**
+     * One BOM line.
+     *
+     * @param vendor vendor identifier (e.g. "murata"); falls back to the request-level vendor
+     * @param mpn    the manufacturer part number; must not be blank
+     */
+    public record Item(
+            String vendor,
+            @NotBlank String mpn
+    ) {
+    }
+}
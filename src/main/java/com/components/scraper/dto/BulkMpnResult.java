@@ -0,0 +1,61 @@
+package com.components.scraper.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of one item of a bulk MPN search.
+ * <p>
+ * Results are emitted as soon as each lookup completes, so they may arrive out
+ * of order; {@code index} refers to the item's position in the request.
+ * </p>
+ *
+ * @param index   zero-based position of the item in {@link BulkMpnRequest#items()}
+ * @param vendor  vendor the item was looked up at
+ * @param mpn     the part number as requested
+ * @param status  {@link Status#OK}, {@link Status#NOT_FOUND} or {@link Status#ERROR}
+ * @param results matching product records; absent unless {@code status} is OK
+ * @param error   failure description; present only if {@code status} is ERROR
+ * @param degraded why {@code results} may be outdated, e.g. served from an expired cache entry
+ *                 while the vendor is unavailable; absent for fresh results
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkMpnResult(
+        int index,
+        String vendor,
+        String mpn,
+        Status status,
+        List<Map<String, Object>> results,
+        String error,
+        String degraded
+) {
+
+    /**
+     * Per-item outcome.
+     */
+    public enum Status {
+        OK, NOT_FOUND, ERROR
+    }
+
+    public static BulkMpnResult found(final int index, final String vendor, final String mpn,
+                                      final List<Map<String, Object>> results) {
+        return results.isEmpty()
+                ? new BulkMpnResult(index, vendor, mpn, Status.NOT_FOUND, null, null, null)
+                : new BulkMpnResult(index, vendor, mpn, Status.OK, results, null, null);
+    }
+
+    public static BulkMpnResult failed(final int index, final String vendor, final String mpn,
+                                       final String error) {
+        return new BulkMpnResult(index, vendor, mpn, Status.ERROR, null, error, null);
+    }
+
+    /**
+     * @param reason degradation reason, or {@code null} for fresh results
+     * @return this result with {@code degraded} set to {@code reason}
+     */
+    public BulkMpnResult withDegraded(final String reason) {
+        return new BulkMpnResult(index, vendor, mpn, status, results, error, reason);
+    }
+}
@@ -0,0 +1,217 @@
+package com.components.scraper.parser;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compact grid row: a flat value array laid out by a shared {@link GridSchema}.
+ * <p>
+ * Replaces one {@code LinkedHashMap} per row – with its entry objects and
+ * repeated header keys – by a single {@code Object[]}. It still is a
+ * {@code Map<String,Object>}, so existing callers keep working:
+ * </p>
+ * <ul>
+ *   <li>Iteration follows the schema order, then keys added outside the schema.</li>
+ *   <li>A column that was never set is absent (not {@code null}), so
+ *       {@code containsKey}, {@code size} and JSON output match the map it replaces.</li>
+ *   <li>{@code put} of a key unknown to the schema goes to a small per-row
+ *       overflow map.</li>
+ * </ul>
+ * <p>
+ * Serialized by {@link GridRowSerializer} straight from the array.
+ * </p>
+ */
+@JsonSerialize(using = GridRowSerializer.class)
+public final class GridRow extends AbstractMap<String, Object> {
+
+    /**
+     * Marks a column without a value.
+     */
+    private static final Object ABSENT = new Object();
+
+    private final GridSchema schema;
+
+    private final Object[] values;
+
+    /**
+     * Keys outside the schema; created on first use.
+     */
+    private Map<String, Object> overflow;
+
+    /**
+     * Creates an empty row.
+     *
+     * @param schema the shared column layout
+     */
+    public GridRow(final GridSchema schema) {
+        this.schema = schema;
+        this.values = new Object[schema.size()];
+        Arrays.fill(values, ABSENT);
+    }
+
+    /**
+     * @return the shared column layout
+     */
+    public GridSchema schema() {
+        return schema;
+    }
+
+    /**
+     * Sets a column by position – the parsers' fast path.
+     *
+     * @param column column position in {@link #schema()}
+     * @param value  cell value, may be {@code null}
+     */
+    public void set(final int column, final Object value) {
+        values[column] = value;
+    }
+
+    /**
+     * @param column column position
+     * @return whether the column holds a value (possibly {@code null})
+     */
+    public boolean isSet(final int column) {
+        return values[column] != ABSENT;
+    }
+
+    /**
+     * @param column column position; must be {@linkplain #isSet(int) set}
+     * @return the cell value
+     */
+    public Object valueAt(final int column) {
+        return values[column];
+    }
+
+    /**
+     * @return keys outside the schema, never {@code null}
+     */
+    public Map<String, Object> extra() {
+        return overflow != null ? overflow : Collections.emptyMap();
+    }
+
+    @Override
+    public Object get(final Object key) {
+        int i = schema.indexOf(key);
+        if (i >= 0) {
+            return values[i] == ABSENT ? null : values[i];
+        }
+        return overflow != null ? overflow.get(key) : null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        int i = schema.indexOf(key);
+        if (i >= 0) {
+            return values[i] != ABSENT;
+        }
+        return overflow != null && overflow.containsKey(key);
+    }
+
+    @Override
+    public Object put(final String key, final Object value) {
+        int i = schema.indexOf(key);
+        if (i >= 0) {
+            Object old = values[i];
+            values[i] = value;
+            return old == ABSENT ? null : old;
+        }
+        if (overflow == null) {
+            overflow = new LinkedHashMap<>();
+        }
+        return overflow.put(key, value);
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        int i = schema.indexOf(key);
+        if (i >= 0) {
+            Object old = values[i];
+            values[i] = ABSENT;
+            return old == ABSENT ? null : old;
+        }
+        return overflow != null ? overflow.remove(key) : null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, ABSENT);
+        overflow = null;
+    }
+
+    @Override
+    public int size() {
+        int n = 0;
+        for (Object v : values) {
+            if (v != ABSENT) {
+                n++;
+            }
+        }
+        return n + (overflow != null ? overflow.size() : 0);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return GridRow.this.size();
+            }
+        };
+    }
+
+    /**
+     * Walks the set columns, then the overflow entries.
+     */
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int next = advance(0);
+
+        private Iterator<Entry<String, Object>> extra;
+
+        private int advance(final int from) {
+            int i = from;
+            while (i < values.length && values[i] == ABSENT) {
+                i++;
+            }
+            return i;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next < values.length) {
+                return true;
+            }
+            if (extra == null) {
+                extra = overflow != null ? overflow.entrySet().iterator() : Collections.emptyIterator();
+            }
+            return extra.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (next < values.length) {
+                Entry<String, Object> e = new SimpleImmutableEntry<>(schema.name(next), values[next]);
+                next = advance(next + 1);
+                return e;
+            }
+            return extra.next();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.components.scraper.parser;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Writes a {@link GridRow} as a JSON object directly from its value array,
+ * using the schema's pre-encoded field names – no map view or entry objects
+ * are created per row.
+ */
+public class GridRowSerializer extends StdSerializer<GridRow> {
+
+    /**
+     * Creates the serializer; referenced from {@link GridRow}'s {@code @JsonSerialize}.
+     */
+    public GridRowSerializer() {
+        super(GridRow.class);
+    }
+
+    @Override
+    public void serialize(final GridRow row, final JsonGenerator gen, final SerializerProvider provider)
+            throws IOException {
+        gen.writeStartObject(row);
+        GridSchema schema = row.schema();
+        for (int i = 0; i < schema.size(); i++) {
+            if (row.isSet(i)) {
+                gen.writeFieldName(schema.serializedName(i));
+                provider.defaultSerializeValue(row.valueAt(i), gen);
+            }
+        }
+        for (Map.Entry<String, Object> e : row.extra().entrySet()) {
+            gen.writeFieldName(e.getKey());
+            provider.defaultSerializeValue(e.getValue(), gen);
+        }
+        gen.writeEndObject();
+    }
+
+    @Override
+    public boolean isEmpty(final SerializerProvider provider, final GridRow row) {
+        return row.isEmpty();
+    }
+}
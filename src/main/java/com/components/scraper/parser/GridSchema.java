@@ -0,0 +1,83 @@
+package com.components.scraper.parser;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable column layout shared by every {@link GridRow} of one parsed response.
+ * <p>
+ * Holds the column names once – in output order, duplicates collapsed onto their
+ * first position exactly like repeated {@code put}s into a {@code LinkedHashMap}
+ * – together with a name→index lookup and the pre-encoded JSON field names used
+ * by {@link GridRowSerializer}.
+ * </p>
+ */
+public final class GridSchema {
+
+    private final List<String> names;
+
+    private final SerializedString[] serializedNames;
+
+    private final Map<String, Integer> index;
+
+    private GridSchema(final List<String> names) {
+        this.names = names;
+        this.serializedNames = new SerializedString[names.size()];
+        this.index = new HashMap<>(names.size() * 2);
+        for (int i = 0; i < names.size(); i++) {
+            serializedNames[i] = new SerializedString(names.get(i));
+            index.put(names.get(i), i);
+        }
+    }
+
+    /**
+     * @param columnNames column names in output order; {@code null}s are ignored,
+     *                    duplicates keep their first position
+     * @return the schema
+     */
+    public static GridSchema of(final Collection<String> columnNames) {
+        LinkedHashSet<String> unique = new LinkedHashSet<>(columnNames);
+        unique.remove(null);
+        return new GridSchema(List.copyOf(unique));
+    }
+
+    /**
+     * @param name column name
+     * @return the column position, or {@code -1} if the schema has no such column
+     */
+    public int indexOf(final Object name) {
+        Integer i = index.get(name);
+        return i != null ? i : -1;
+    }
+
+    /**
+     * @return number of columns
+     */
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * @param column column position
+     * @return the column name
+     */
+    public String name(final int column) {
+        return names.get(column);
+    }
+
+    /**
+     * @return all column names in order (unmodifiable)
+     */
+    public List<String> names() {
+        return names;
+    }
+
+    SerializedString serializedName(final int column) {
+        return serializedNames[column];
+    }
+}
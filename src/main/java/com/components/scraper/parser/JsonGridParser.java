@@ -1,9 +1,12 @@
 package com.components.scraper.parser;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Converts a vendor‑specific JSON payload into a list of rows.
@@ -17,5 +20,24 @@ public interface JsonGridParser {
      */
     List<Map<String, Object>> parse(JsonNode root);
 
-}
+    /**
+     * Streaming variant: reads the document from {@code parser} and hands every
+     * row to {@code sink} as soon as it is complete.
+     * <p>
+     * The default implementation materialises the tree and delegates to
+     * {@link #parse(JsonNode)}; parsers for large grids override it to walk the
+     * token stream instead.
+     * </p>
+     *
+     * @param parser positioned before the root value; must have an {@code ObjectCodec}
+     * @param sink   receives the rows in document order
+     * @throws IOException if the document cannot be read
+     */
+    default void parse(final JsonParser parser, final Consumer<Map<String, Object>> sink) throws IOException {
+        JsonNode root = parser.readValueAsTree();
+        if (root != null) {
+            parse(root).forEach(sink);
+        }
+    }
 
+}
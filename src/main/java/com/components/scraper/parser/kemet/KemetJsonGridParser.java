@@ -1,5 +1,7 @@
 package com.components.scraper.parser.kemet;
 
+import com.components.scraper.parser.GridRow;
+import com.components.scraper.parser.GridSchema;
 import com.components.scraper.parser.JsonGridParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
@@ -8,9 +10,10 @@ import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * <h2>KEMET JSON Parser</h2>
@@ -28,6 +31,9 @@ import java.util.Map;
  *   "Voltage DC":  ["630 VDC"],
  *   …
  * }</pre>
+ *
+ * <p>All rows share one {@link GridSchema}: the fixed columns followed by every
+ * {@code parameterName} in the order it first appears in the response.</p>
  */
 @Component("kemetGridParser")
 @Slf4j
@@ -38,6 +44,16 @@ public final class KemetJsonGridParser implements JsonGridParser {
      */
     private static final String KEY_PARTS = "detectedUniqueParts";
 
+    /**
+     * Per-parameter JSON key name.
+     */
+    private static final String KEY_PARAMETER_VALUES = "parameterValues";
+
+    /**
+     * Columns present on every row.
+     */
+    private static final List<String> FIXED_COLUMNS = List.of("MPN", "obsolete", "rohsExceptions");
+
     /**
      * {@inheritDoc}
      */
@@ -47,9 +63,12 @@ public final class KemetJsonGridParser implements JsonGridParser {
             return List.of();
         }
 
-        List<Map<String, Object>> rows = new ArrayList<>();
-        for (JsonNode rawPart : root.get(KEY_PARTS)) {
-            Map<String, Object> row = new LinkedHashMap<>();
+        JsonNode parts = root.get(KEY_PARTS);
+        GridSchema schema = buildSchema(parts);
+
+        List<Map<String, Object>> rows = new ArrayList<>(parts.size());
+        for (JsonNode rawPart : parts) {
+            GridRow row = new GridRow(schema);
 
             // Canonical part number & a few administrative flags
             row.put("MPN", textOrNull(rawPart, "displayPn"));
@@ -57,15 +76,15 @@ public final class KemetJsonGridParser implements JsonGridParser {
             row.put("rohsExceptions", rawPart.path("hasRoHSExceptions").asBoolean(false));
 
             // Flatten every parameterName → [formattedValue, …]
-            if (rawPart.has("parameterValues") && rawPart.get("parameterValues").isArray()) {
-                rawPart.get("parameterValues").forEach(p -> {
+            if (rawPart.has(KEY_PARAMETER_VALUES) && rawPart.get(KEY_PARAMETER_VALUES).isArray()) {
+                rawPart.get(KEY_PARAMETER_VALUES).forEach(p -> {
                     String name = textOrNull(p, "parameterName");
                     if (!StringUtils.hasText(name)) {
                         return;
                     }
 
                     List<String> values = new ArrayList<>();
-                    JsonNode vals = p.path("parameterValues");
+                    JsonNode vals = p.path(KEY_PARAMETER_VALUES);
                     if (vals.isArray()) {
                         vals.forEach(v -> {
                             String fv = textOrNull(v, "formattedValue");
@@ -80,11 +99,27 @@ public final class KemetJsonGridParser implements JsonGridParser {
                 });
             }
 
-            rows.add(Collections.unmodifiableMap(row));
+            rows.add(row);
         }
         return Collections.unmodifiableList(rows);
     }
 
+    /**
+     * Fixed columns plus the union of all parameter names, in first-seen order.
+     */
+    private static GridSchema buildSchema(final JsonNode parts) {
+        Set<String> names = new LinkedHashSet<>(FIXED_COLUMNS);
+        for (JsonNode rawPart : parts) {
+            for (JsonNode p : rawPart.path(KEY_PARAMETER_VALUES)) {
+                String name = textOrNull(p, "parameterName");
+                if (StringUtils.hasText(name)) {
+                    names.add(name);
+                }
+            }
+        }
+        return GridSchema.of(names);
+    }
+
     private static String textOrNull(final JsonNode node, final String field) {
         JsonNode n = (node == null) ? null : node.get(field);
         return (n == null || n.isNull()) ? null : n.asText();
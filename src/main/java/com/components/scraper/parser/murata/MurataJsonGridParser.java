@@ -1,14 +1,19 @@
 package com.components.scraper.parser.murata;
 
+import com.components.scraper.parser.GridRow;
+import com.components.scraper.parser.GridSchema;
 import com.components.scraper.parser.JsonGridParser;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Parses Murata’s JSON-based grid responses into a list of row-maps.
@@ -16,10 +21,15 @@ import java.util.Map;
  * <ul>
  *   <li>Extracts column labels from {@code /Result/header}.</li>
  *   <li>Extracts product rows from {@code /Result/data/products}.</li>
- *   <li>Maps each {@code Value} array to a {@code Map<String,Object>} by header name.</li>
+ *   <li>Maps each {@code Value} array to a compact {@link GridRow} sharing one
+ *       {@link GridSchema} built from the header.</li>
  *   <li>Appends a {@code url} field pointing to the Murata detail page for convenience.</li>
  * </ul>
  * </p>
+ * <p>
+ * The streaming overload {@link #parse(JsonParser, Consumer)} produces the same rows
+ * straight from the token stream, without building a {@link JsonNode} tree.
+ * </p>
  */
 @Component("murataGridParser")
 public class MurataJsonGridParser implements JsonGridParser {
@@ -43,6 +53,17 @@ public class MurataJsonGridParser implements JsonGridParser {
      */
     private static final String JSON_KEY_VALUE = "Value";
 
+    /**
+     * Field names along {@link #JSON_PATH_HEADER} / {@link #JSON_PATH_PRODUCTS}, used by the streaming parser.
+     */
+    private static final String JSON_KEY_RESULT = "Result";
+
+    private static final String JSON_KEY_HEADER = "header";
+
+    private static final String JSON_KEY_DATA = "data";
+
+    private static final String JSON_KEY_PRODUCTS = "products";
+
     /**
      * Index of the header segment representing the display name
      * after splitting on the delimiter.
@@ -59,6 +80,11 @@ public class MurataJsonGridParser implements JsonGridParser {
      */
     private static final String COLUMN_PART_NUMBER = "Part Number";
 
+    /**
+     * Extra column holding the detail-page link.
+     */
+    private static final String COLUMN_URL = "url";
+
     /**
      * Character appended to Murata part numbers; URL-encoded as "%23".
      */
@@ -99,36 +125,196 @@ public class MurataJsonGridParser implements JsonGridParser {
 
         // Extract display names from header metadata
         List<String> headers = new ArrayList<>();
-        headerNode.forEach(h -> {
-            String[] parts = h.asText().split(HEADER_DELIMITER);
-            if (parts.length > HEADER_NAME_INDEX) {
-                headers.add(parts[HEADER_NAME_INDEX]);
-            } else {
-                headers.add(parts[0]);
-            }
-        });
+        headerNode.forEach(h -> headers.add(headerName(h.asText())));
+        Layout layout = new Layout(headers);
 
         List<Map<String, Object>> rows = new ArrayList<>(productsNode.size());
 
-        // Map each product's Value array to a row map
+        // Map each product's Value array to a row sharing the header schema
         productsNode.forEach(p -> {
             JsonNode values = p.get(JSON_KEY_VALUE);
-            Map<String, Object> row = new LinkedHashMap<>(headers.size() + 1);
+            GridRow row = new GridRow(layout.schema);
 
-            for (int i = 0; i < headers.size(); i++) {
-                String header = headers.get(i);
+            for (int i = 0; i < layout.columns.length; i++) {
                 JsonNode cell = values.get(i);
-                row.put(header, cell != null ? cell.asText() : null);
+                row.set(layout.columns[i], cell != null ? cell.asText() : null);
             }
 
-            // Add detail URL for convenience
-            String partNoRaw = String.valueOf(row.get(COLUMN_PART_NUMBER));
-            String partNo = partNoRaw.replace(PART_NUMBER_SUFFIX, "%23");
-            String url = String.format(DETAIL_URL_TEMPLATE, partNo);
-            row.put("url", url);
+            addDetailUrl(row, layout);
             rows.add(row);
         });
 
         return rows;
     }
+
+    /**
+     * Streams the rows of a Murata grid response directly from the token stream.
+     * <p>
+     * Only {@code Result.header} and {@code Result.data.products[*].Value} are
+     * materialised; every other value is skipped. Rows are emitted as soon as the
+     * header is known – should the vendor ever send {@code data} before
+     * {@code header}, the raw cells are buffered until the header arrives. Cell
+     * text matches {@link JsonNode#asText()} so both overloads yield identical rows.
+     * </p>
+     *
+     * @param parser positioned before the root object
+     * @param sink   receives each row in document order
+     * @throws IOException if the document is malformed
+     */
+    @Override
+    public void parse(final JsonParser parser, final Consumer<Map<String, Object>> sink) throws IOException {
+        JsonToken t = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+        if (t != JsonToken.START_OBJECT) {
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_OBJECT && JSON_KEY_RESULT.equals(field)) {
+                parseResult(parser, sink);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void parseResult(final JsonParser parser, final Consumer<Map<String, Object>> sink) throws IOException {
+        Layout layout = null;
+        List<List<String>> pending = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (JSON_KEY_HEADER.equals(field) && value == JsonToken.START_ARRAY) {
+                List<String> headers = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    headers.add(headerName(cellText(parser)));
+                }
+                layout = new Layout(headers);
+                for (List<String> cells : pending) {
+                    sink.accept(toRow(layout, cells));
+                }
+                pending.clear();
+            } else if (JSON_KEY_DATA.equals(field) && value == JsonToken.START_OBJECT) {
+                parseData(parser, layout, pending, sink);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void parseData(final JsonParser parser,
+                           final Layout layout,
+                           final List<List<String>> pending,
+                           final Consumer<Map<String, Object>> sink) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() != JsonToken.START_ARRAY || !JSON_KEY_PRODUCTS.equals(field)) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                List<String> cells = readProductValues(parser);
+                if (cells == null) {
+                    continue;
+                }
+                if (layout != null) {
+                    sink.accept(toRow(layout, cells));
+                } else {
+                    pending.add(cells);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads one product object and returns the text of its {@code Value} cells,
+     * or {@code null} if the product carries no {@code Value} array.
+     */
+    private List<String> readProductValues(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        List<String> cells = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_ARRAY && JSON_KEY_VALUE.equals(field)) {
+                cells = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    cells.add(cellText(parser));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Text of the current scalar token as {@link JsonNode#asText()} would render it;
+     * containers are skipped and yield an empty string.
+     */
+    private static String cellText(final JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT -> parser.getNumberValue().toString();
+            case VALUE_NUMBER_FLOAT -> Double.toString(parser.getDoubleValue());
+            case VALUE_TRUE -> "true";
+            case VALUE_FALSE -> "false";
+            case VALUE_NULL -> "null";
+            default -> {
+                parser.skipChildren();
+                yield "";
+            }
+        };
+    }
+
+    private GridRow toRow(final Layout layout, final List<String> cells) {
+        GridRow row = new GridRow(layout.schema);
+        for (int i = 0; i < layout.columns.length; i++) {
+            row.set(layout.columns[i], i < cells.size() ? cells.get(i) : null);
+        }
+        addDetailUrl(row, layout);
+        return row;
+    }
+
+    /**
+     * Extracts the display name from a header entry such as {@code "id:Part Number"}.
+     */
+    private static String headerName(final String raw) {
+        String[] parts = raw.split(HEADER_DELIMITER);
+        return parts.length > HEADER_NAME_INDEX ? parts[HEADER_NAME_INDEX] : parts[0];
+    }
+
+    /**
+     * Adds the detail-page {@code url} for the row's part number.
+     */
+    private static void addDetailUrl(final GridRow row, final Layout layout) {
+        String partNoRaw = String.valueOf(row.get(COLUMN_PART_NUMBER));
+        String partNo = partNoRaw.replace(PART_NUMBER_SUFFIX, "%23");
+        String url = String.format(DETAIL_URL_TEMPLATE, partNo);
+        row.set(layout.url, url);
+    }
+
+    /**
+     * Schema of one response plus the schema column of every header position
+     * (repeated header names share a column, the last value wins).
+     */
+    private static final class Layout {
+
+        private final GridSchema schema;
+
+        private final int[] columns;
+
+        private final int url;
+
+        Layout(final List<String> headers) {
+            List<String> names = new ArrayList<>(headers.size() + 1);
+            names.addAll(headers);
+            names.add(COLUMN_URL);
+            this.schema = GridSchema.of(names);
+            this.columns = headers.stream().mapToInt(schema::indexOf).toArray();
+            this.url = schema.indexOf(COLUMN_URL);
+        }
+    }
 }
@@ -0,0 +1,519 @@
+package com.components.scraper.parser.tdk;
+
+import org.jsoup.parser.Parser;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.ObjIntConsumer;
+import java.util.regex.Pattern;
+
+/**
+ * Single-pass reader for the HTML {@code <table>} fragment in TDK's
+ * {@code results} field.
+ * <p>
+ * Walks the markup once, tag by tag, and reports every {@code <tr>} as a list of
+ * its {@code <td>} cells – without building a DOM or evaluating selectors. For
+ * each cell it captures exactly what {@link TdkJsonGridParser} needs, with the
+ * values Jsoup would produce for the same markup:
+ * </p>
+ * <ul>
+ *   <li>{@link Cell#text()} – as {@code Element.text()}: entities decoded,
+ *       whitespace collapsed, block elements and {@code <br>} separated by a
+ *       space, script/style content and comments dropped;</li>
+ *   <li>{@link Cell#linkText()} / {@link Cell#linkHref()} – the first
+ *       {@code a[href]} of the cell;</li>
+ *   <li>{@link Cell#pdfHref()} – the first {@code a[href$=.pdf]} of the cell
+ *       (suffix matched case-insensitively).</li>
+ * </ul>
+ * <p>
+ * Table structure follows the HTML rules TDK's markup relies on: a new
+ * {@code <td>}/{@code <th>} closes the open cell, a new {@code <tr>} or table
+ * section closes the open row, and cells outside a row open an implied one.
+ * {@code <th>} cells close cells but are not reported, matching
+ * {@code tr.select("td")}. Nested tables are not supported – TDK does not
+ * produce them.
+ * </p>
+ */
+final class TdkHtmlTableReader {
+
+    /** Elements Jsoup treats as blocks when rendering {@code text()}. */
+    private static final Set<String> BLOCK_TAGS = Set.of(
+            "html", "head", "body", "frameset", "script", "noscript", "style", "meta", "link", "title",
+            "frame", "noframes", "section", "nav", "aside", "hgroup", "header", "footer", "p",
+            "h1", "h2", "h3", "h4", "h5", "h6", "ul", "ol", "pre", "div", "blockquote", "hr", "address",
+            "figure", "figcaption", "form", "fieldset", "ins", "del", "dl", "dt", "dd", "li", "table",
+            "caption", "thead", "tfoot", "tbody", "colgroup", "col", "tr", "th", "td", "video", "audio",
+            "canvas", "details", "menu", "plaintext", "template", "article", "main", "svg", "math",
+            "center", "dir", "applet", "marquee", "listing");
+
+    /** Elements without content or end tag. */
+    private static final Set<String> VOID_TAGS = Set.of(
+            "meta", "link", "base", "frame", "img", "br", "wbr", "embed", "hr", "input", "keygen", "col",
+            "command", "device", "area", "basefont", "bgsound", "menuitem", "param", "source", "track");
+
+    /** Elements whose content is raw data, not text. */
+    private static final Set<String> RAW_TEXT_TAGS = Set.of("script", "style");
+
+    /** Elements that close the open row. */
+    private static final Set<String> SECTION_TAGS = Set.of("thead", "tbody", "tfoot");
+
+    private static final String PDF_SUFFIX = ".pdf";
+
+    private static final Pattern URL_SCHEME = Pattern.compile("^[a-zA-Z][a-zA-Z0-9+-.]*:");
+
+    private static final Pattern CONTROL_CHARS = Pattern.compile("[\\x00-\\x1f]*");
+
+    private final String html;
+
+    private final ObjIntConsumer<List<Cell>> sink;
+
+    private final StringBuilder pendingText = new StringBuilder();
+
+    private int pos;
+
+    private int tableDepth;
+
+    private int rowIndex;
+
+    /** Whether the last {@link #readAttributes()} reached the closing {@code '>'}. */
+    private boolean tagClosed;
+
+    /** Cells of the open {@code <tr>}, or {@code null} outside a row. */
+    private List<Cell> row;
+
+    /** The open {@code <td>}, or {@code null}. */
+    private CellBuilder cell;
+
+    private TdkHtmlTableReader(final String html, final ObjIntConsumer<List<Cell>> sink) {
+        this.html = html;
+        this.sink = sink;
+    }
+
+    /**
+     * Reads the fragment and reports each table row in document order.
+     *
+     * @param html the {@code results} HTML
+     * @param sink receives the {@code <td>} cells of every row and the row's
+     *             position among all {@code <tr>} elements (0-based)
+     */
+    static void read(final String html, final ObjIntConsumer<List<Cell>> sink) {
+        new TdkHtmlTableReader(html, sink).run();
+    }
+
+    /**
+     * Resolves an {@code href} the way Jsoup's {@code absUrl} does for a document
+     * without base URI: absolute URLs are returned in external form, anything
+     * else yields an empty string.
+     *
+     * @param href attribute value
+     * @return the absolute URL, or {@code ""}
+     */
+    @SuppressWarnings("deprecation") // same resolution as Jsoup, which still uses URL(String)
+    static String absUrl(final String href) {
+        String url = CONTROL_CHARS.matcher(href).replaceAll("");
+        try {
+            return new URL(url).toExternalForm();
+        } catch (MalformedURLException e) {
+            return URL_SCHEME.matcher(url).find() ? url : "";
+        }
+    }
+
+    private void run() {
+        int len = html.length();
+        while (pos < len) {
+            int lt = html.indexOf('<', pos);
+            if (lt < 0) {
+                pendingText.append(html, pos, len);
+                pos = len;
+            } else {
+                pendingText.append(html, pos, lt);
+                pos = lt;
+                if (!tag()) {
+                    pendingText.append('<');
+                    pos = lt + 1;
+                }
+            }
+        }
+        flushText();
+        closeRow();
+    }
+
+    /**
+     * Consumes the markup construct at {@code pos}.
+     *
+     * @return {@code false} if the {@code '<'} does not start a tag and is plain text
+     */
+    private boolean tag() {
+        int len = html.length();
+        if (html.startsWith("<!--", pos)) {
+            flushText();
+            int end = html.indexOf("-->", pos + 4);
+            pos = end < 0 ? len : end + 3;
+            return true;
+        }
+        if (pos + 1 < len && (html.charAt(pos + 1) == '!' || html.charAt(pos + 1) == '?')) {
+            flushText();
+            int end = html.indexOf('>', pos);
+            pos = end < 0 ? len : end + 1;
+            return true;
+        }
+        boolean endTag = pos + 1 < len && html.charAt(pos + 1) == '/';
+        int nameStart = pos + (endTag ? 2 : 1);
+        if (nameStart >= len || !isAsciiLetter(html.charAt(nameStart))) {
+            return false;
+        }
+        flushText();
+        pos = nameStart;
+        String name = readName().toLowerCase(Locale.ROOT);
+        String href = readAttributes();
+        if (!tagClosed) {
+            return true; // unterminated tag at EOF: dropped
+        }
+        if (endTag) {
+            endTag(name);
+        } else {
+            startTag(name, href);
+        }
+        return true;
+    }
+
+    private String readName() {
+        int start = pos;
+        while (pos < html.length()) {
+            char c = html.charAt(pos);
+            if (isWhitespace(c) || c == '/' || c == '>') {
+                break;
+            }
+            pos++;
+        }
+        return html.substring(start, pos);
+    }
+
+    /**
+     * Reads attributes up to and including the closing {@code '>'}.
+     *
+     * @return the decoded value of the first {@code href} attribute, or {@code null}
+     */
+    private String readAttributes() {
+        int len = html.length();
+        String href = null;
+        tagClosed = false;
+        while (pos < len) {
+            char c = html.charAt(pos);
+            if (c == '>') {
+                pos++;
+                tagClosed = true;
+                return href;
+            }
+            if (isWhitespace(c) || c == '/') {
+                pos++;
+                continue;
+            }
+            int start = pos++;
+            while (pos < len && !isWhitespace(html.charAt(pos))
+                    && "/>=".indexOf(html.charAt(pos)) < 0) {
+                pos++;
+            }
+            String attr = html.substring(start, pos);
+            skipWhitespace();
+            String value = "";
+            if (pos < len && html.charAt(pos) == '=') {
+                pos++;
+                skipWhitespace();
+                value = readAttributeValue();
+            }
+            if (href == null && "href".equalsIgnoreCase(attr)) {
+                href = decode(value, true);
+            }
+        }
+        return null;
+    }
+
+    private String readAttributeValue() {
+        int len = html.length();
+        if (pos >= len) {
+            return "";
+        }
+        char quote = html.charAt(pos);
+        if (quote == '"' || quote == '\'') {
+            int end = html.indexOf(quote, pos + 1);
+            if (end < 0) {
+                pos = len;
+                return "";
+            }
+            String value = html.substring(pos + 1, end);
+            pos = end + 1;
+            return value;
+        }
+        int start = pos;
+        while (pos < len && !isWhitespace(html.charAt(pos)) && html.charAt(pos) != '>') {
+            pos++;
+        }
+        return html.substring(start, pos);
+    }
+
+    private void startTag(final String name, final String href) {
+        if ("table".equals(name)) {
+            closeRow();
+            tableDepth++;
+        } else if (tableDepth > 0 && (SECTION_TAGS.contains(name) || "tr".equals(name))) {
+            closeRow();
+            if ("tr".equals(name)) {
+                row = new ArrayList<>();
+            }
+        } else if (tableDepth > 0 && ("td".equals(name) || "th".equals(name))) {
+            closeCell();
+            if (row == null) {
+                row = new ArrayList<>();
+            }
+            if ("td".equals(name)) {
+                cell = new CellBuilder();
+            }
+        } else if (RAW_TEXT_TAGS.contains(name)) {
+            skipRawText(name);
+        } else if (cell != null) {
+            cell.start(name, href);
+        }
+    }
+
+    private void endTag(final String name) {
+        if ("table".equals(name)) {
+            closeRow();
+            tableDepth = Math.max(0, tableDepth - 1);
+        } else if (SECTION_TAGS.contains(name) || "tr".equals(name)) {
+            closeRow();
+        } else if ("td".equals(name) || "th".equals(name)) {
+            closeCell();
+        } else if (cell != null) {
+            if ("br".equals(name)) {
+                cell.start(name, null); // </br> is parsed as <br>
+            } else {
+                cell.end(name);
+            }
+        }
+    }
+
+    /**
+     * Skips script/style content, which never contributes text but still
+     * separates the surrounding text like any block element.
+     */
+    private void skipRawText(final String name) {
+        if (cell != null) {
+            cell.start(name, null);
+        }
+        int end = indexOfIgnoreCase("</" + name, pos);
+        if (end < 0) {
+            pos = html.length();
+        } else {
+            int gt = html.indexOf('>', end);
+            pos = gt < 0 ? html.length() : gt + 1;
+        }
+        if (cell != null) {
+            cell.end(name);
+        }
+    }
+
+    private void flushText() {
+        if (pendingText.isEmpty()) {
+            return;
+        }
+        if (cell != null) {
+            cell.text(decode(pendingText.toString(), false));
+        }
+        pendingText.setLength(0);
+    }
+
+    private void closeCell() {
+        if (cell != null) {
+            row.add(cell.build());
+            cell = null;
+        }
+    }
+
+    private void closeRow() {
+        closeCell();
+        if (row != null) {
+            sink.accept(row, rowIndex++);
+            row = null;
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < html.length() && isWhitespace(html.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private int indexOfIgnoreCase(final String needle, final int from) {
+        for (int i = from; i <= html.length() - needle.length(); i++) {
+            if (html.regionMatches(true, i, needle, 0, needle.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String decode(final String raw, final boolean inAttribute) {
+        return raw.indexOf('&') < 0 ? raw : Parser.unescapeEntities(raw, inAttribute);
+    }
+
+    private static boolean isAsciiLetter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * One {@code <td>} as seen by the grid parser.
+     *
+     * @param text     normalized text of the whole cell
+     * @param linkText normalized text of the first {@code a[href]}, or {@code null}
+     * @param linkHref decoded {@code href} of that anchor, or {@code null}
+     * @param pdfHref  decoded {@code href} of the first anchor ending in {@code .pdf}, or {@code null}
+     */
+    record Cell(String text, String linkText, String linkHref, String pdfHref) {
+    }
+
+    /**
+     * Accumulates one cell's text and links while its content streams by.
+     */
+    private static final class CellBuilder {
+
+        private final TextAccumulator text = new TextAccumulator();
+
+        private TextAccumulator linkText;
+
+        private String linkHref;
+
+        private String pdfHref;
+
+        /** Whether content currently belongs to the first {@code a[href]}. */
+        private boolean inLink;
+
+        /** Whether the previous node was the end of a block element. */
+        private boolean afterBlock;
+
+        private int preDepth;
+
+        void start(final String name, final String href) {
+            afterBlock = false;
+            if ("a".equals(name)) {
+                inLink = false; // a new anchor implicitly closes the previous one
+                if (href != null && linkHref == null) {
+                    linkHref = href;
+                    linkText = new TextAccumulator();
+                    inLink = true;
+                }
+                if (href != null && pdfHref == null && href.toLowerCase(Locale.ENGLISH).endsWith(PDF_SUFFIX)) {
+                    pdfHref = href;
+                }
+            }
+            if (BLOCK_TAGS.contains(name) || "br".equals(name)) {
+                text.separate();
+                if (inLink) {
+                    linkText.separate();
+                }
+            }
+            if ("pre".equals(name)) {
+                preDepth++;
+            }
+            if (VOID_TAGS.contains(name)) {
+                afterBlock = BLOCK_TAGS.contains(name);
+            }
+        }
+
+        void end(final String name) {
+            if ("a".equals(name)) {
+                inLink = false;
+            }
+            if ("pre".equals(name) && preDepth > 0) {
+                preDepth--;
+            }
+            afterBlock = BLOCK_TAGS.contains(name);
+        }
+
+        void text(final String value) {
+            if (afterBlock) {
+                text.padAfterBlock();
+                if (inLink) {
+                    linkText.padAfterBlock();
+                }
+                afterBlock = false;
+            }
+            text.append(value, preDepth > 0);
+            if (inLink) {
+                linkText.append(value, preDepth > 0);
+            }
+        }
+
+        Cell build() {
+            return new Cell(text.result(), linkText != null ? linkText.result() : null, linkHref, pdfHref);
+        }
+    }
+
+    /**
+     * Whitespace handling of Jsoup's {@code Element.text()}.
+     */
+    private static final class TextAccumulator {
+
+        private static final char NBSP = '\u00A0';
+
+        private static final char ZERO_WIDTH_SPACE = '\u200B';
+
+        private static final char SOFT_HYPHEN = '\u00AD';
+
+        private final StringBuilder sb = new StringBuilder();
+
+        /** Space before a block element or {@code <br>} that follows text. */
+        void separate() {
+            if (!sb.isEmpty() && !endsWithSpace()) {
+                sb.append(' ');
+            }
+        }
+
+        /** Space between the end of a block element and following text. */
+        void padAfterBlock() {
+            if (!endsWithSpace()) {
+                sb.append(' ');
+            }
+        }
+
+        void append(final String value, final boolean preserveWhitespace) {
+            if (preserveWhitespace) {
+                sb.append(value);
+                return;
+            }
+            boolean stripLeading = endsWithSpace();
+            boolean lastWasWhite = false;
+            boolean reachedNonWhite = false;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (isWhitespace(c) || c == NBSP) {
+                    if ((stripLeading && !reachedNonWhite) || lastWasWhite) {
+                        continue;
+                    }
+                    sb.append(' ');
+                    lastWasWhite = true;
+                } else if (c != ZERO_WIDTH_SPACE && c != SOFT_HYPHEN) {
+                    sb.append(c);
+                    lastWasWhite = false;
+                    reachedNonWhite = true;
+                }
+            }
+        }
+
+        String result() {
+            return sb.toString().trim();
+        }
+
+        private boolean endsWithSpace() {
+            return !sb.isEmpty() && sb.charAt(sb.length() - 1) == ' ';
+        }
+    }
+}
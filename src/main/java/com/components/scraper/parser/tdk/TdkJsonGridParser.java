@@ -1,31 +1,30 @@
 package com.components.scraper.parser.tdk;
 
+import com.components.scraper.parser.GridRow;
+import com.components.scraper.parser.GridSchema;
 import com.components.scraper.parser.JsonGridParser;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.components.scraper.parser.tdk.TdkHtmlTableReader.Cell;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * <h2>TDK JSON&nbsp;Grid Parser</h2>
  * <p>Converts the hybrid <em>JSON + HTML</em> payload returned by
  * <code>/pdc_api/en/search/list/search_result</code> into a list of plain
  * {@code Map&lt;String,Object&gt;} instances, ready for downstream mapping or
- * storage.  The structure of TDK’s response is:</p>
+ * storage.  Rows are {@link GridRow}s sharing one {@link GridSchema} derived
+ * from {@code columns}; cells of columns TDK did not announce are kept as
+ * {@code col_N} extras after the known columns.  The structure of TDK’s response is:</p>
  * <pre>{@code
  * {
  *     "results": "<table>…</table>",          // HTML fragment
@@ -49,9 +48,12 @@ import java.util.Set;
  *         identical Part Numbers to guard against vendor-side rendering quirks.
  *     </li>
  * </ol>
- * <p>All literals are declared as constants; control flow deliberately uses at
- * most <strong>one</strong> {@code continue} and zero {@code break} statements
- * to comply with static‑analysis constraints.</p>
+ * <p>The HTML is read in a single pass by {@link TdkHtmlTableReader} – no DOM
+ * is built and no selectors are evaluated; cell text and links come out exactly
+ * as Jsoup would render them.</p>
+ * <p>All literals are declared as constants; control flow deliberately uses
+ * zero {@code continue} and {@code break} statements to comply with
+ * static‑analysis constraints.</p>
  */
 @Component("tdkGridParser")
 @Slf4j
@@ -63,6 +65,12 @@ public final class TdkJsonGridParser implements JsonGridParser {
     private static final String COL_DATASHEET = "Catalog / Data Sheet";
     /** Multiplier applied by TDK to {@code column_order}. */
     private static final int ORDER_MULTIPLIER = 10;
+    /** Extra field holding the Part No. detail link. */
+    private static final String COL_URL = "url";
+    /** First {@code <td>} index that carries data. */
+    private static final int FIRST_DATA_COL = 2;
+    /** First {@code <tr>} index that carries data. */
+    private static final int FIRST_DATA_ROW = 2;
 
     /**
      * Transform TDK’s grid‑JSON response into a collection of row maps.
@@ -71,8 +79,7 @@ public final class TdkJsonGridParser implements JsonGridParser {
      *   <li>The first two and last two table rows are decorative; skipped.</li>
      *   <li>The <em>very first data row</em> may be completely empty — it is
      *       ignored by detecting a blank Part No. + blank cells.</li>
-     *   <li>Exactly <strong>one</strong> {@code continue} statement is used
-     *       (to omit rows that contain zero {@code &lt;td&gt;} elements).</li>
+     *   <li>Rows that contain zero {@code &lt;td&gt;} elements are omitted.</li>
      * </ul>
      * </p>
      *
@@ -90,50 +97,52 @@ public final class TdkJsonGridParser implements JsonGridParser {
         }
 
         Map<Integer, String> orderToHeader = buildHeaderMap(root.path("columns"));
-
-        Document doc = Jsoup.parse(html);
-        List<Element> allRows = doc.select("tr");
-        if (allRows.size() <= 1) {
-            return List.of();
-        }
-
-        Set<String> seenPartNos = new HashSet<>();
-        List<Map<String, Object>> parsedRows = new ArrayList<>(allRows.size());
-
-        for (int idx = 2; idx < allRows.size(); idx++) {
-            Element tr = allRows.get(idx);
-            Elements tds = tr.select("td");
-            if (tds.isEmpty()) {
-                continue; // single allowed continue
-            }
-
-            Map<String, Object> row = new LinkedHashMap<>();
-            String partNoValue = null;
-
-            // Skip decorative TDs 0,1 and last 2
-            for (int col = 2; col < tds.size(); col++) {
-                String header = orderToHeader.getOrDefault(col * ORDER_MULTIPLIER, "col_" + col);
-                Element td = tds.get(col);
-
-                if (COL_PART_NO.equalsIgnoreCase(header)) {
-                    partNoValue = extractPartNo(td, row);
-                } else if (COL_DATASHEET.equalsIgnoreCase(header)) {
-                    extractDatasheet(td, row);
-                } else {
-                    row.put(header, td.text());
+        GridSchema schema = buildSchema(orderToHeader);
+
+        List<Map<String, Object>> parsedRows = new ArrayList<>();
+        TdkHtmlTableReader.read(html, (tds, idx) -> {
+            if (idx >= FIRST_DATA_ROW && !tds.isEmpty()) {
+                GridRow row = parseRow(tds, idx, orderToHeader, schema);
+                if (row != null) {
+                    parsedRows.add(row);
                 }
             }
+        });
+        return Collections.unmodifiableList(parsedRows);
+    }
 
-            // Skip the very first data row if it is completely blank (issue #124)
-            boolean firstRowIsPlaceholder = idx == 0 && (partNoValue == null || partNoValue.isBlank())
-                    && row.values().stream().allMatch(v -> Objects.toString(v, "").isBlank());
-
-            boolean isUnique = partNoValue != null;
-            if (!firstRowIsPlaceholder && isUnique && !row.isEmpty()) {
-                parsedRows.add(Collections.unmodifiableMap(row));
+    /**
+     * Maps the cells of one table row.
+     *
+     * @return the row, or {@code null} if it carries no part number
+     */
+    private static GridRow parseRow(final List<Cell> tds,
+                                    final int idx,
+                                    final Map<Integer, String> orderToHeader,
+                                    final GridSchema schema) {
+        GridRow row = new GridRow(schema);
+        String partNoValue = null;
+
+        // Skip decorative TDs 0,1 and last 2
+        for (int col = FIRST_DATA_COL; col < tds.size(); col++) {
+            String header = orderToHeader.getOrDefault(col * ORDER_MULTIPLIER, "col_" + col);
+            Cell td = tds.get(col);
+
+            if (COL_PART_NO.equalsIgnoreCase(header)) {
+                partNoValue = extractPartNo(td, row);
+            } else if (COL_DATASHEET.equalsIgnoreCase(header)) {
+                extractDatasheet(td, row);
+            } else {
+                row.put(header, td.text());
             }
         }
-        return Collections.unmodifiableList(parsedRows);
+
+        // Skip the very first data row if it is completely blank (issue #124)
+        boolean firstRowIsPlaceholder = idx == 0 && (partNoValue == null || partNoValue.isBlank())
+                && row.values().stream().allMatch(v -> Objects.toString(v, "").isBlank());
+
+        boolean isUnique = partNoValue != null;
+        return !firstRowIsPlaceholder && isUnique && !row.isEmpty() ? row : null;
     }
 
     private static Map<Integer, String> buildHeaderMap(final JsonNode columns) {
@@ -147,20 +156,41 @@ public final class TdkJsonGridParser implements JsonGridParser {
         return map;
     }
 
-    private static String extractPartNo(final Element td, final Map<String, Object> row) {
-        Element anchor = td.selectFirst("a[href]");
-        String text = (anchor != null) ? anchor.text() : td.text();
+    /**
+     * Column layout in {@code <td>} order: every announced column from
+     * {@link #FIRST_DATA_COL} on, with {@code url} right after the Part No.
+     */
+    private static GridSchema buildSchema(final Map<Integer, String> orderToHeader) {
+        List<String> names = new ArrayList<>(orderToHeader.size() + 1);
+        new TreeMap<>(orderToHeader).forEach((order, header) -> {
+            if (order % ORDER_MULTIPLIER != 0 || order / ORDER_MULTIPLIER < FIRST_DATA_COL) {
+                return;
+            }
+            if (COL_PART_NO.equalsIgnoreCase(header)) {
+                names.add(COL_PART_NO);
+                names.add(COL_URL);
+            } else if (COL_DATASHEET.equalsIgnoreCase(header)) {
+                names.add(COL_DATASHEET);
+            } else {
+                names.add(header);
+            }
+        });
+        return GridSchema.of(names);
+    }
+
+    private static String extractPartNo(final Cell td, final Map<String, Object> row) {
+        boolean hasAnchor = td.linkHref() != null;
+        String text = hasAnchor ? td.linkText() : td.text();
         row.put(COL_PART_NO, text);
-        if (anchor != null) {
-            row.put("url", anchor.absUrl("href"));
+        if (hasAnchor) {
+            row.put(COL_URL, TdkHtmlTableReader.absUrl(td.linkHref()));
         }
         return text;
     }
 
-    private static void extractDatasheet(final Element td, final Map<String, Object> row) {
-        Element pdf = td.selectFirst("a[href$=.pdf]");
-        if (pdf != null) {
-            row.put(COL_DATASHEET, pdf.absUrl("href"));
+    private static void extractDatasheet(final Cell td, final Map<String, Object> row) {
+        if (td.pdfHref() != null) {
+            row.put(COL_DATASHEET, TdkHtmlTableReader.absUrl(td.pdfHref()));
         }
     }
 }
@@ -0,0 +1,400 @@
+package com.components.scraper.service.core;
+
+import com.components.scraper.config.VendorCfg;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the requests in flight to one vendor host at a limit that follows the
+ * host's latency, applied as an {@link ExchangeFilterFunction}.
+ *
+ * <p>The limit is adjusted with a gradient algorithm in the style of TCP Vegas:
+ * each completed call updates a short-term and a long-term average latency, and
+ * the limit moves towards {@code limit × gradient + √limit}, where the gradient
+ * is {@code rtt-tolerance × long / short} clamped to [0.5, 1]. While latency stays
+ * near its baseline the limit grows by about {@code √limit} per adjustment; when
+ * the vendor slows down it shrinks in proportion. A 429 or 503 answer, a Netty
+ * response timeout, or a call cancelled after running for {@code slow-cancel}
+ * (e.g. the engine's request timeout or a bulk item timeout) multiplies the limit
+ * by {@code backoff-ratio}; earlier cancels, such as a hedge that lost, neither
+ * shrink the limit nor count as a latency sample. The limit stays between
+ * {@code min-limit} and {@code max-limit} (by default {@code pool.max-connections}),
+ * and only grows while at least half of it is in use.</p>
+ *
+ * <p>Requests over the limit wait for a slot without parking a thread and fail
+ * with {@link VendorRateLimitException} after {@code max-wait} or when
+ * {@code max-queue} requests are already waiting. The filter sits inside the
+ * {@link TokenBucketRateLimiter}, so rate-limit waits are not counted as latency.</p>
+ *
+ * <p>Meters, tagged with {@code vendor}:</p>
+ * <ul>
+ *   <li>{@code vendor.concurrency.limit} – current limit</li>
+ *   <li>{@code vendor.concurrency.inflight} – requests in flight</li>
+ *   <li>{@code vendor.concurrency.queued} – requests waiting for a slot</li>
+ *   <li>{@code vendor.concurrency.rejected} – requests refused by the limiter</li>
+ * </ul>
+ */
+@Slf4j
+public final class AdaptiveConcurrencyLimiter implements ExchangeFilterFunction {
+
+    /** Smoothing of the short-term latency average (about the last 10 calls). */
+    private static final double SHORT_ALPHA = 2.0 / (10 + 1);
+
+    /** Smoothing of the long-term latency average (about the last 600 calls). */
+    private static final double LONG_ALPHA = 2.0 / (600 + 1);
+
+    /** Weight of a new limit estimate against the current limit. */
+    private static final double LIMIT_SMOOTHING = 0.2;
+
+    private static final double MIN_GRADIENT = 0.5;
+
+    private static final double MAX_GRADIENT = 1.0;
+
+    /** The long-term average is pulled down faster once it exceeds the short-term one by this factor. */
+    private static final double LONG_RTT_DRIFT = 2.0;
+
+    private static final double LONG_RTT_DECAY = 0.95;
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private final String vendor;
+
+    private final boolean enabled;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double rttTolerance;
+
+    private final double backoffRatio;
+
+    private final long maxWaitNanos;
+
+    private final int maxQueue;
+
+    private final long slowCancelNanos;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final Queue<Permit> waiters = new ConcurrentLinkedQueue<>();
+
+    private final Counter rejected;
+
+    /** Current limit; written under the monitor, read without it. */
+    private volatile double limit;
+
+    private double shortRttNanos;
+
+    private double longRttNanos;
+
+    /**
+     * @param vendor         vendor identifier used in meter tags and errors
+     * @param cfg            the vendor's {@code concurrency} settings
+     * @param maxConnections pool size, the default upper bound
+     * @param registry       meter registry for the limiter metrics
+     */
+    public AdaptiveConcurrencyLimiter(final String vendor,
+                                      final VendorCfg.Concurrency cfg,
+                                      final int maxConnections,
+                                      final MeterRegistry registry) {
+        this.vendor = vendor;
+        this.enabled = cfg.isEnabled();
+        this.maxLimit = Math.max(1, cfg.getMaxLimit() > 0 ? cfg.getMaxLimit() : maxConnections);
+        this.minLimit = Math.clamp(cfg.getMinLimit(), 1, maxLimit);
+        this.limit = Math.clamp(cfg.getInitialLimit(), minLimit, maxLimit);
+        this.rttTolerance = Math.max(1.0, cfg.getRttTolerance());
+        this.backoffRatio = Math.clamp(cfg.getBackoffRatio(), 0.1, 1.0);
+        this.maxWaitNanos = cfg.getMaxWait().toNanos();
+        this.maxQueue = cfg.getMaxQueue();
+        this.slowCancelNanos = cfg.getSlowCancel().toNanos();
+
+        Gauge.builder("vendor.concurrency.limit", this, l -> l.limit)
+                .tag("vendor", vendor)
+                .description("Adaptive limit of vendor requests in flight")
+                .register(registry);
+        Gauge.builder("vendor.concurrency.inflight", inFlight, AtomicInteger::get)
+                .tag("vendor", vendor)
+                .description("Vendor requests in flight")
+                .register(registry);
+        Gauge.builder("vendor.concurrency.queued", queued, AtomicInteger::get)
+                .tag("vendor", vendor)
+                .description("Requests waiting for a vendor concurrency slot")
+                .register(registry);
+        this.rejected = Counter.builder("vendor.concurrency.rejected")
+                .tag("vendor", vendor)
+                .description("Requests rejected by the vendor concurrency limiter")
+                .register(registry);
+    }
+
+    @Override
+    @NonNull
+    public Mono<ClientResponse> filter(@NonNull final ClientRequest request, @NonNull final ExchangeFunction next) {
+        if (!enabled) {
+            return next.exchange(request);
+        }
+        // The permit covers the time between admission and the start of the call;
+        // whatever ends the scope first (cancel, timeout, error) gives an unused slot back.
+        return Mono.usingWhen(acquire(),
+                permit -> permit.start() ? exchange(request, next) : Mono.empty(),
+                permit -> Mono.fromRunnable(permit::releaseUnused));
+    }
+
+    private Mono<ClientResponse> exchange(final ClientRequest request, final ExchangeFunction next) {
+        return Mono.defer(() -> {
+            Call call = new Call(System.nanoTime(), inFlight.get());
+            return next.exchange(request)
+                    .doOnError(e -> call.finish(isTimeout(e) ? Result.DROPPED : Result.IGNORED))
+                    .doOnCancel(call::cancel)
+                    .map(response -> {
+                        int status = response.statusCode().value();
+                        boolean overloaded = status == TOO_MANY_REQUESTS || status == SERVICE_UNAVAILABLE;
+                        return response.mutate()
+                                .body(body -> body.doFinally(sig -> call.finish(overloaded
+                                        ? Result.DROPPED
+                                        : sig == SignalType.ON_COMPLETE ? Result.SAMPLED
+                                        : sig == SignalType.CANCEL ? call.cancelResult() : Result.IGNORED)))
+                                .build();
+                    });
+        });
+    }
+
+    /**
+     * @return the current limit, rounded down
+     */
+    public int currentLimit() {
+        return (int) limit;
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.defer(() -> {
+            if (tryAcquire()) {
+                return Mono.just(new Permit(Permit.GRANTED));
+            }
+            if (queued.incrementAndGet() > maxQueue) {
+                queued.decrementAndGet();
+                return Mono.error(reject(maxQueue + " requests already waiting"));
+            }
+            return Mono.<Permit>create(sink -> {
+                        Permit permit = new Permit(Permit.WAITING);
+                        permit.sink = sink;
+                        sink.onCancel(permit::releaseUnused);
+                        waiters.add(permit);
+                        drain();
+                    })
+                    .timeout(Duration.ofNanos(maxWaitNanos),
+                            Mono.error(() -> reject("no slot free within " + Duration.ofNanos(maxWaitNanos).toMillis()
+                                    + " ms at limit " + currentLimit())));
+        });
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    /**
+     * Hands free slots to waiting requests in arrival order.
+     */
+    private void drain() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            Permit waiter = waiters.poll();
+            if (waiter == null || !waiter.grant()) {
+                inFlight.decrementAndGet();
+                if (waiter == null) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private synchronized void onSample(final long rttNanos, final int inFlightAtStart) {
+        shortRttNanos = shortRttNanos == 0 ? rttNanos : shortRttNanos + (rttNanos - shortRttNanos) * SHORT_ALPHA;
+        longRttNanos = longRttNanos == 0 ? rttNanos : longRttNanos + (rttNanos - longRttNanos) * LONG_ALPHA;
+        if (longRttNanos / shortRttNanos > LONG_RTT_DRIFT) {
+            longRttNanos *= LONG_RTT_DECAY;
+        }
+        double current = limit;
+        if (inFlightAtStart < current / 2) {
+            return;     // not limited by us; latency says nothing about a higher limit
+        }
+        double gradient = Math.clamp(rttTolerance * longRttNanos / shortRttNanos, MIN_GRADIENT, MAX_GRADIENT);
+        double estimate = current * gradient + Math.sqrt(current);
+        setLimit(current * (1 - LIMIT_SMOOTHING) + estimate * LIMIT_SMOOTHING);
+    }
+
+    private synchronized void onDrop() {
+        setLimit(limit * backoffRatio);
+    }
+
+    /**
+     * Stores a new limit. Called under the monitor; the caller drains the queue
+     * after leaving it, so granted requests never start while the lock is held.
+     */
+    private void setLimit(final double next) {
+        double clamped = Math.clamp(next, minLimit, maxLimit);
+        if ((int) clamped != (int) limit) {
+            log.debug("Concurrency limit for {} now {}", vendor, (int) clamped);
+        }
+        limit = clamped;
+    }
+
+    private VendorRateLimitException reject(final String reason) {
+        rejected.increment();
+        log.debug("Concurrency limiter for {} rejected request: {}", vendor, reason);
+        return new VendorRateLimitException(vendor, Duration.ofNanos(maxWaitNanos), reason);
+    }
+
+    private static boolean isTimeout(final Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException
+                    || t instanceof io.netty.handler.timeout.TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * How a finished call feeds the limit.
+     */
+    private enum Result {
+        SAMPLED,
+        DROPPED,
+        IGNORED
+    }
+
+    /**
+     * One admitted call; releases its slot once, on whichever terminal signal comes first.
+     */
+    private final class Call {
+
+        private final long start;
+
+        private final int inFlightAtStart;
+
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        Call(final long start, final int inFlightAtStart) {
+            this.start = start;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * A cancel after {@code slow-cancel} – a caller timeout, a stalled body – counts like a timeout;
+         * an earlier one, e.g. a hedge that lost, says nothing about the vendor.
+         */
+        Result cancelResult() {
+            return System.nanoTime() - start >= slowCancelNanos ? Result.DROPPED : Result.IGNORED;
+        }
+
+        void cancel() {
+            finish(cancelResult());
+        }
+
+        void finish(final Result result) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            if (result == Result.SAMPLED) {
+                onSample(System.nanoTime() - start, inFlightAtStart);
+            } else if (result == Result.DROPPED) {
+                onDrop();
+            }
+            release();      // drains outside the limit monitor
+        }
+    }
+
+    /**
+     * A slot from admission until the call starts. A waiting request holds one in
+     * state {@link #WAITING}; once granted it owns a slot that is either handed to
+     * the call by {@link #start()} or given back by {@link #releaseUnused()}, so a
+     * cancel racing a grant cannot leak the slot.
+     */
+    private final class Permit {
+
+        static final int WAITING = 0;
+
+        static final int GRANTED = 1;
+
+        static final int STARTED = 2;
+
+        static final int RELEASED = 3;
+
+        private final AtomicInteger state;
+
+        @Nullable
+        private MonoSink<Permit> sink;
+
+        Permit(final int initial) {
+            this.state = new AtomicInteger(initial);
+        }
+
+        /**
+         * Hands a slot the caller already took to this waiting request.
+         *
+         * @return {@code false} if the request went away; the caller keeps the slot
+         */
+        boolean grant() {
+            if (!state.compareAndSet(WAITING, GRANTED)) {
+                return false;
+            }
+            queued.decrementAndGet();
+            sink.success(this);
+            return true;
+        }
+
+        /**
+         * @return {@code true} if the call may run on this permit's slot
+         */
+        boolean start() {
+            return state.compareAndSet(GRANTED, STARTED);
+        }
+
+        /**
+         * Leaves the queue, or gives back a granted slot the call never used.
+         */
+        void releaseUnused() {
+            if (state.compareAndSet(WAITING, RELEASED)) {
+                queued.decrementAndGet();
+                waiters.remove(this);
+            } else if (state.compareAndSet(GRANTED, RELEASED)) {
+                release();
+            }
+        }
+    }
+}
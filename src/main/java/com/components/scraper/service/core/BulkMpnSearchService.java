@@ -0,0 +1,133 @@
+package com.components.scraper.service.core;
+
+import com.components.scraper.config.ScraperProperties;
+import com.components.scraper.config.VendorCfg;
+import com.components.scraper.config.VendorProperties;
+import com.components.scraper.dto.BulkMpnRequest;
+import com.components.scraper.dto.BulkMpnResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fans a list of MPN lookups out over the vendor search services.
+ *
+ * <p>Items are grouped by vendor and each group runs with at most
+ * {@code vendors.configs.<vendor>.bulk-concurrency} lookups in flight; the
+ * groups themselves run side by side. Every lookup goes through the
+ * {@link MpnResultCache} and the {@link SearchDispatcher} exactly like a single
+ * {@code POST /api/search/mpn}, and therefore through the vendor's shared
+ * connection pool and rate limiter.</p>
+ *
+ * <p>Results are emitted as soon as each lookup completes. A failing item –
+ * unknown vendor, vendor error, timeout, open circuit breaker – yields an
+ * {@link BulkMpnResult.Status#ERROR} result and never fails the batch; rows
+ * served from an expired cache entry carry {@link BulkMpnResult#degraded()}.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkMpnSearchService {
+
+    private static final VendorCfg DEFAULT_CFG = new VendorCfg();
+
+    /**
+     * MPN services keyed by bean name ("{vendor}MpnSvc").
+     */
+    private final Map<String, ReactiveMpnSearchService> mpnServices;
+
+    private final MpnResultCache cache;
+
+    private final SearchDispatcher dispatcher;
+
+    private final VendorProperties vendors;
+
+    private final ScraperProperties props;
+
+    /**
+     * Looks up every item of the request.
+     *
+     * @param request the BOM lines to search
+     * @return one {@link BulkMpnResult} per item, in completion order
+     * @throws IllegalArgumentException if the request exceeds {@code scraper.bulk.max-items}
+     */
+    public Flux<BulkMpnResult> search(final BulkMpnRequest request) {
+        List<BulkMpnRequest.Item> items = request.items();
+        int maxItems = props.getBulk().getMaxItems();
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException(
+                    "Bulk request has " + items.size() + " items; the limit is " + maxItems);
+        }
+
+        // Partition by vendor, keeping the original position of every item
+        Map<String, List<Integer>> byVendor = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            byVendor.computeIfAbsent(vendorOf(items.get(i), request.vendor()), v -> new ArrayList<>()).add(i);
+        }
+        log.debug("Bulk MPN search: {} items across vendors {}", items.size(), byVendor.keySet());
+
+        return Flux.merge(byVendor.entrySet().stream()
+                .map(e -> searchVendor(e.getKey(), e.getValue(), items))
+                .toList());
+    }
+
+    private Flux<BulkMpnResult> searchVendor(final String vendor,
+                                             final List<Integer> indexes,
+                                             final List<BulkMpnRequest.Item> items) {
+        ReactiveMpnSearchService svc = mpnServices.get(vendor + "MpnSvc");
+        if (svc == null) {
+            return Flux.fromIterable(indexes)
+                    .map(i -> BulkMpnResult.failed(i, vendor, items.get(i).mpn(),
+                            "No MPN service for vendor " + vendor));
+        }
+        VendorCfg cfg = cfgFor(vendor);
+        return Flux.fromIterable(indexes)
+                .flatMap(i -> lookup(svc, vendor, cfg, i, items.get(i).mpn()),
+                        Math.max(1, cfg.getBulkConcurrency()));
+    }
+
+    private Mono<BulkMpnResult> lookup(final ReactiveMpnSearchService svc,
+                                       final String vendor,
+                                       final VendorCfg cfg,
+                                       final int index,
+                                       final String mpn) {
+        Degradation degradation = new Degradation();
+        return cache.get(vendor, mpn, () -> dispatcher.dispatch(
+                        () -> svc.searchByMpn(mpn),
+                        () -> svc.searchByMpnReactive(mpn)))
+                .timeout(cfg.getTimeout())
+                .map(rows -> BulkMpnResult.found(index, vendor, mpn, rows).withDegraded(degradation.reason()))
+                .onErrorResume(e -> {
+                    log.warn("Bulk lookup of {} at {} failed: {}", mpn, vendor, e.toString());
+                    return Mono.just(BulkMpnResult.failed(index, vendor, mpn, describe(e, cfg)));
+                })
+                .contextWrite(degradation::attach);
+    }
+
+    private static String describe(final Throwable e, final VendorCfg cfg) {
+        if (e instanceof TimeoutException) {
+            return "Timed out after " + cfg.getTimeout().toMillis() + " ms";
+        }
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    private static String vendorOf(final BulkMpnRequest.Item item, final String defaultVendor) {
+        String v = StringUtils.hasText(item.vendor()) ? item.vendor() : defaultVendor;
+        return StringUtils.hasText(v) ? v.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    private VendorCfg cfgFor(final String vendor) {
+        VendorCfg cfg = vendors.forName(vendor);
+        return cfg != null ? cfg : DEFAULT_CFG;
+    }
+}
@@ -0,0 +1,246 @@
+package com.components.scraper.service.core;
+
+import com.components.scraper.config.VendorCfg;
+import com.components.scraper.config.VendorProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caffeine-backed {@link MpnResultCache}.
+ *
+ * <ul>
+ *   <li><b>Eviction</b> – Caffeine's W-TinyLFU policy, bounded by the estimated
+ *       size of the cached rows in bytes ({@code scraper.mpn-cache.max-weight}).</li>
+ *   <li><b>TTL</b> – per vendor via {@code vendors.configs.<vendor>.cache.ttl}.</li>
+ *   <li><b>Stale-while-revalidate</b> – once an entry is older than
+ *       {@code cache.refresh-after} it is still served immediately, and a single
+ *       background lookup replaces it.</li>
+ *   <li><b>Stale-if-error</b> – an entry is kept for {@code cache.stale-if-error}
+ *       past its TTL. Such an entry is reloaded like a miss, but answers if the
+ *       reload fails: the vendor is unavailable (open circuit breaker, full
+ *       bulkhead), the lookup errors, or it comes back empty after the engine
+ *       swallowed an upstream error (see {@link LoadFailures}). The answer is then
+ *       reported as a {@link Degradation}; only a clean empty reload drops the entry.</li>
+ *   <li><b>Single load</b> – concurrent misses for the same key share one lookup.</li>
+ * </ul>
+ * <p>Empty results are not cached so a part that is not yet listed is retried
+ * on the next request.</p>
+ */
+@Slf4j
+public class CaffeineMpnResultCache implements MpnResultCache {
+
+    /**
+     * Rough per-object overhead used by the weigher (header + reference).
+     */
+    private static final int OBJECT_OVERHEAD = 16;
+
+    private static final VendorCfg.Cache DEFAULT_CACHE_CFG = new VendorCfg.Cache();
+
+    private final VendorProperties vendors;
+
+    private final AsyncCache<Key, Entry> cache;
+
+    /**
+     * Keys with a background refresh in flight.
+     */
+    private final Set<Key> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param vendors       vendor settings providing the per-vendor {@code cache} block
+     * @param maxWeightBytes upper bound for the summed entry weights
+     * @param registry      meter registry for the {@code cache.*} metrics
+     */
+    public CaffeineMpnResultCache(final VendorProperties vendors,
+                                  final long maxWeightBytes,
+                                  final MeterRegistry registry) {
+        this.vendors = vendors;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Key k, Entry e) -> e.weight())
+                .expireAfter(new VendorTtl())
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(registry, cache.synchronous(), "mpn-results");
+    }
+
+    @Override
+    public Mono<List<Map<String, Object>>> get(final String vendor,
+                                               final String mpn,
+                                               final Supplier<Mono<List<Map<String, Object>>>> loader) {
+        VendorCfg.Cache cfg = cacheCfg(vendor);
+        if (!cfg.isEnabled()) {
+            return Mono.defer(loader);
+        }
+        Key key = new Key(vendor.toLowerCase(Locale.ROOT), MpnResultCache.normalizeMpn(mpn));
+
+        return Mono.fromFuture(() -> cache.get(key, (k, executor) -> load(loader)), true)
+                .flatMap(entry -> {
+                    if (entry.ageNanos() >= cfg.getTtl().toNanos()) {
+                        return reloadExpired(key, entry, loader);
+                    }
+                    refreshIfStale(key, entry, cfg, loader);
+                    return Mono.just(entry.rows());
+                })
+                .defaultIfEmpty(List.of());
+    }
+
+    /**
+     * Runs the lookup; an empty result completes the future with {@code null}
+     * so that Caffeine drops the mapping.
+     */
+    private CompletableFuture<Entry> load(final Supplier<Mono<List<Map<String, Object>>>> loader) {
+        return Mono.defer(loader)
+                .filter(rows -> !rows.isEmpty())
+                .map(Entry::of)
+                .toFuture();
+    }
+
+    /**
+     * Reloads an entry past its TTL; its rows answer only if the reload fails.
+     */
+    private Mono<List<Map<String, Object>>> reloadExpired(final Key key,
+                                                         final Entry expired,
+                                                         final Supplier<Mono<List<Map<String, Object>>>> loader) {
+        LoadFailures failures = new LoadFailures();
+        return Mono.defer(loader)
+                .contextWrite(failures::attach)
+                .defaultIfEmpty(List.of())
+                .flatMap(rows -> {
+                    if (!rows.isEmpty()) {
+                        cache.put(key, CompletableFuture.completedFuture(Entry.of(rows)));
+                        return Mono.just(rows);
+                    }
+                    if (failures.failed()) {
+                        return serveExpired(key, expired, "vendor error");
+                    }
+                    cache.synchronous().asMap().remove(key, expired);
+                    return Mono.just(rows);
+                })
+                .onErrorResume(e -> serveExpired(key, expired,
+                        e instanceof VendorUnavailableException u ? u.getReason() : "vendor error"));
+    }
+
+    private Mono<List<Map<String, Object>>> serveExpired(final Key key, final Entry expired, final String reason) {
+        log.debug("Serving expired MPN cache entry {}: {}", key, reason);
+        return Degradation.report(key.vendor(), "stale cache (" + reason + ")")
+                .thenReturn(expired.rows());
+    }
+
+    private void refreshIfStale(final Key key,
+                                final Entry entry,
+                                final VendorCfg.Cache cfg,
+                                final Supplier<Mono<List<Map<String, Object>>>> loader) {
+        if (cfg.getRefreshAfter() == null
+                || entry.ageNanos() < cfg.getRefreshAfter().toNanos()
+                || !refreshing.add(key)) {
+            return;
+        }
+        log.debug("Refreshing stale MPN cache entry {}", key);
+        Mono.defer(loader)
+                .filter(rows -> !rows.isEmpty())
+                .doFinally(sig -> refreshing.remove(key))
+                .subscribe(
+                        rows -> cache.put(key, CompletableFuture.completedFuture(Entry.of(rows))),
+                        err -> log.debug("Background refresh of {} failed: {}", key, err.toString()));
+    }
+
+    /**
+     * How long an entry stays in the cache: its TTL plus the stale-if-error grace.
+     */
+    private long retentionNanos(final String vendor) {
+        VendorCfg.Cache cfg = cacheCfg(vendor);
+        Duration grace = cfg.getStaleIfError() != null ? cfg.getStaleIfError() : Duration.ZERO;
+        return cfg.getTtl().plus(grace).toNanos();
+    }
+
+    private VendorCfg.Cache cacheCfg(final String vendor) {
+        VendorCfg cfg = vendors.forName(vendor.toLowerCase(Locale.ROOT));
+        return cfg != null && cfg.getCache() != null ? cfg.getCache() : DEFAULT_CACHE_CFG;
+    }
+
+    /**
+     * Cache key: lower-case vendor id and normalized MPN.
+     */
+    record Key(String vendor, String mpn) {
+    }
+
+    /**
+     * Cached rows together with their load time and estimated size.
+     */
+    record Entry(List<Map<String, Object>> rows, long loadedAt, int weight) {
+
+        static Entry of(final List<Map<String, Object>> rows) {
+            return new Entry(List.copyOf(rows), System.nanoTime(), estimateBytes(rows));
+        }
+
+        long ageNanos() {
+            return System.nanoTime() - loadedAt;
+        }
+    }
+
+    /**
+     * Approximates the retained heap of the rows: strings count two bytes per
+     * char, everything else a fixed overhead. Good enough to keep large
+     * parametric-style result sets from crowding out many small ones.
+     */
+    static int estimateBytes(final Object value) {
+        long bytes;
+        if (value == null) {
+            bytes = 0;
+        } else if (value instanceof CharSequence s) {
+            bytes = OBJECT_OVERHEAD + 2L * s.length();
+        } else if (value instanceof Map<?, ?> m) {
+            bytes = OBJECT_OVERHEAD;
+            for (Map.Entry<?, ?> e : m.entrySet()) {
+                bytes += OBJECT_OVERHEAD + estimateBytes(e.getKey()) + estimateBytes(e.getValue());
+            }
+        } else if (value instanceof Iterable<?> it) {
+            bytes = OBJECT_OVERHEAD;
+            for (Object o : it) {
+                bytes += estimateBytes(o);
+            }
+        } else {
+            bytes = OBJECT_OVERHEAD;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    /**
+     * Evicts every entry after its vendor's {@code cache.ttl} plus {@code cache.stale-if-error},
+     * counted from the last write.
+     */
+    private final class VendorTtl implements Expiry<Key, Entry> {
+
+        @Override
+        public long expireAfterCreate(@NonNull final Key key, @NonNull final Entry value, final long currentTime) {
+            return retentionNanos(key.vendor());
+        }
+
+        @Override
+        public long expireAfterUpdate(@NonNull final Key key, @NonNull final Entry value,
+                                      final long currentTime, final long currentDuration) {
+            return retentionNanos(key.vendor());
+        }
+
+        @Override
+        public long expireAfterRead(@NonNull final Key key, @NonNull final Entry value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
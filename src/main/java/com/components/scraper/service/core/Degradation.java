@@ -0,0 +1,76 @@
+package com.components.scraper.service.core;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Records why one lookup was answered from degraded data, e.g. a stale cache
+ * entry while the vendor's circuit breaker is open.
+ *
+ * <p>A controller creates one per request and puts it into the Reactor context
+ * of the lookup with {@link #attach(Context)}; code along the pipeline reports
+ * with {@link #report(String, String)}, and the controller turns the collected
+ * reasons into the {@value #HEADER} response header.</p>
+ */
+public final class Degradation {
+
+    /**
+     * Response header listing the degradation reasons, e.g. {@code murata: stale cache (circuit open)}.
+     */
+    public static final String HEADER = "X-Data-Degraded";
+
+    private static final Class<Degradation> CONTEXT_KEY = Degradation.class;
+
+    private final Set<String> reasons = new CopyOnWriteArraySet<>();
+
+    /**
+     * Notes a degradation on the {@link Degradation} of the current subscriber, if any.
+     *
+     * @param vendor vendor whose data is degraded
+     * @param reason short description, e.g. {@code stale cache (circuit open)}
+     * @return an empty {@link Mono} that records on subscription
+     */
+    public static Mono<Void> report(final String vendor, final String reason) {
+        return Mono.deferContextual(ctx -> {
+            ctx.<Degradation>getOrEmpty(CONTEXT_KEY).ifPresent(d -> d.reasons.add(vendor + ": " + reason));
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * @param context the lookup's Reactor context
+     * @return {@code context} carrying this instance
+     */
+    public Context attach(final Context context) {
+        return context.put(CONTEXT_KEY, this);
+    }
+
+    /**
+     * @return the reported reasons joined by {@code ", "}, or {@code null} if nothing was reported
+     */
+    @Nullable
+    public String reason() {
+        return reasons.isEmpty() ? null : String.join(", ", reasons);
+    }
+
+    /**
+     * Wraps a result in a 200 response, with the {@value #HEADER} header when degraded.
+     *
+     * @param body the response body
+     * @param <T>  body type
+     * @return the response entity
+     */
+    public <T> ResponseEntity<T> toResponse(final T body) {
+        String reason = reason();
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        if (reason != null) {
+            ok.header(HEADER, reason);
+        }
+        return ok.body(body);
+    }
+}
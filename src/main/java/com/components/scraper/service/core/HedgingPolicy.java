@@ -0,0 +1,198 @@
+package com.components.scraper.service.core;
+
+import com.components.scraper.config.VendorCfg;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Hedged GETs for one vendor host: when a call has not answered after the
+ * observed latency quantile ({@code hedge.quantile}, p95 by default) of its
+ * {@link VendorOperation}, an identical second call is sent and whichever
+ * answers first wins; the other one is cancelled.
+ *
+ * <ul>
+ *   <li><b>Delay</b> – the quantile of the last {@value #WINDOW_SIZE} latencies
+ *       of the operation, never below {@code hedge.min-delay}. Hedging starts once
+ *       {@code hedge.min-samples} calls were observed. A call answered by its hedge
+ *       counts with the time until the hedge answered, a lower bound of its own
+ *       latency; a call cancelled by its subscriber is not counted.</li>
+ *   <li><b>Budget</b> – every call earns {@code hedge.max-ratio} of a hedge, up to
+ *       {@value #MAX_SAVED_HEDGES} saved hedges, and each hedge spends one. Hedges
+ *       therefore stay below {@code max-ratio} of the calls and never more than
+ *       double the load.</li>
+ *   <li><b>Rate limit</b> – the hedge is an ordinary request through the vendor's
+ *       {@code WebClient}, so it takes a {@link TokenBucketRateLimiter} permit and,
+ *       as {@code call} wraps each attempt in {@link VendorResilience#protect(Mono)},
+ *       its own bulkhead permit; a rejected or failed hedge is ignored and the
+ *       first call keeps running.</li>
+ * </ul>
+ *
+ * <p>Counter: {@code vendor.hedge{vendor, result=sent|won|no_budget}}.</p>
+ */
+public final class HedgingPolicy {
+
+    static final int WINDOW_SIZE = 512;
+
+    static final int MAX_SAVED_HEDGES = 10;
+
+    /** The quantile is recomputed every this many samples. */
+    private static final int RECOMPUTE_EVERY = 32;
+
+    private static final long MILLI = 1_000;
+
+    private final VendorCfg.Hedge cfg;
+
+    private final Map<VendorOperation, LatencyWindow> windows = new EnumMap<>(VendorOperation.class);
+
+    /** Saved hedges, in thousandths. */
+    private final AtomicLong budget = new AtomicLong();
+
+    private final long earnPerCall;
+
+    private final Counter sent;
+
+    private final Counter won;
+
+    private final Counter noBudget;
+
+    /**
+     * @param vendor   vendor identifier used as meter tag
+     * @param cfg      the vendor's {@code hedge} settings
+     * @param registry meter registry for the hedge counters
+     */
+    public HedgingPolicy(final String vendor, final VendorCfg.Hedge cfg, final MeterRegistry registry) {
+        this.cfg = cfg;
+        this.earnPerCall = Math.round(Math.clamp(cfg.getMaxRatio(), 0.0, 1.0) * MILLI);
+        for (VendorOperation op : VendorOperation.values()) {
+            windows.put(op, new LatencyWindow(cfg.getQuantile()));
+        }
+        this.sent = counter(registry, vendor, "sent");
+        this.won = counter(registry, vendor, "won");
+        this.noBudget = counter(registry, vendor, "no_budget");
+    }
+
+    /**
+     * Runs {@code call}, hedged when enabled and warmed up.
+     *
+     * @param operation kind of call, selecting the latency window
+     * @param call      creates one attempt; invoked once, or twice when hedging
+     * @param <T>       result type
+     * @return the result of the first attempt to answer
+     */
+    public <T> Mono<T> execute(final VendorOperation operation, final Supplier<Mono<T>> call) {
+        if (!cfg.isEnabled()) {
+            return call.get();
+        }
+        LatencyWindow window = windows.get(operation);
+        return Mono.defer(() -> {
+            earn();
+            long start = System.nanoTime();
+            Mono<T> first = call.get()
+                    .doOnSuccess(v -> window.record(System.nanoTime() - start));
+            Duration delay = hedgeDelay(window);
+            if (delay == null) {
+                return first;
+            }
+            Mono<T> hedge = Mono.delay(delay)
+                    .flatMap(tick -> {
+                        if (!trySpend()) {
+                            noBudget.increment();
+                            return Mono.never();
+                        }
+                        sent.increment();
+                        return call.get()
+                                .doOnSuccess(v -> {
+                                    won.increment();
+                                    window.record(System.nanoTime() - start);
+                                })
+                                .onErrorResume(e -> Mono.never());
+                    });
+            return Mono.firstWithSignal(first, hedge);
+        });
+    }
+
+    @Nullable
+    private Duration hedgeDelay(final LatencyWindow window) {
+        if (window.count() < cfg.getMinSamples() || window.quantileNanos() == 0) {
+            return null;
+        }
+        long nanos = Math.max(window.quantileNanos(), cfg.getMinDelay().toNanos());
+        return Duration.ofNanos(nanos);
+    }
+
+    private void earn() {
+        long cap = MAX_SAVED_HEDGES * MILLI;
+        budget.getAndUpdate(b -> Math.min(cap, b + earnPerCall));
+    }
+
+    private boolean trySpend() {
+        while (true) {
+            long b = budget.get();
+            if (b < MILLI) {
+                return false;
+            }
+            if (budget.compareAndSet(b, b - MILLI)) {
+                return true;
+            }
+        }
+    }
+
+    private static Counter counter(final MeterRegistry registry, final String vendor, final String result) {
+        return Counter.builder("vendor.hedge")
+                .tag("vendor", vendor)
+                .tag("result", result)
+                .description("Hedged vendor GETs: sent, answered first, or skipped for lack of budget")
+                .register(registry);
+    }
+
+    /**
+     * Ring buffer of recent latencies with a periodically recomputed quantile.
+     * Concurrent writers may overwrite each other's slot; the estimate tolerates that.
+     */
+    private static final class LatencyWindow {
+
+        private final double quantile;
+
+        private final long[] samples = new long[WINDOW_SIZE];
+
+        private final AtomicLong recorded = new AtomicLong();
+
+        private volatile long quantileNanos;
+
+        LatencyWindow(final double quantile) {
+            this.quantile = Math.clamp(quantile, 0.0, 1.0);
+        }
+
+        void record(final long nanos) {
+            long n = recorded.getAndIncrement();
+            samples[(int) (n % WINDOW_SIZE)] = nanos;
+            if ((n + 1) % RECOMPUTE_EVERY == 0) {
+                recompute((int) Math.min(n + 1, WINDOW_SIZE));
+            }
+        }
+
+        long count() {
+            return recorded.get();
+        }
+
+        long quantileNanos() {
+            return quantileNanos;
+        }
+
+        private void recompute(final int filled) {
+            long[] sorted = Arrays.copyOf(samples, filled);
+            Arrays.sort(sorted);
+            int index = (int) Math.min(filled - 1, Math.ceil(quantile * filled) - 1);
+            quantileNanos = sorted[Math.max(0, index)];
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.components.scraper.service.core;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Counts the upstream errors that the {@link VendorSearchEngine} helpers turned
+ * into empty results during one lookup.
+ *
+ * <p>An empty result is ambiguous: the part may not exist, or the vendor may
+ * have failed. The {@link CaffeineMpnResultCache} attaches an instance to the
+ * Reactor context of a reload with {@link #attach(Context)} and keeps its stale
+ * entry when {@link #failed()} says the empty answer came from an error.</p>
+ *
+ * <p>Blocking lookups run by the {@link SearchDispatcher} see the instance
+ * through {@link #callWith(ContextView, Supplier)} and
+ * {@link #inherit(Context)}.</p>
+ */
+public final class LoadFailures {
+
+    private static final Class<LoadFailures> CONTEXT_KEY = LoadFailures.class;
+
+    /** Instance of the blocking lookup running on the current thread. */
+    private static final ThreadLocal<LoadFailures> BLOCKING = new ThreadLocal<>();
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * Notes a swallowed error on the {@link LoadFailures} of the current subscriber, if any.
+     *
+     * @return an empty {@link Mono} that records on subscription
+     */
+    public static Mono<Void> record() {
+        return Mono.deferContextual(ctx -> {
+            ctx.<LoadFailures>getOrEmpty(CONTEXT_KEY).ifPresent(f -> f.count.incrementAndGet());
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * @param context the lookup's Reactor context
+     * @return {@code context} carrying this instance
+     */
+    public Context attach(final Context context) {
+        return context.put(CONTEXT_KEY, this);
+    }
+
+    /**
+     * @return {@code true} if at least one upstream error was swallowed
+     */
+    public boolean failed() {
+        return count.get() > 0;
+    }
+
+    /**
+     * Runs a blocking lookup with the instance of {@code context}, if any, visible
+     * to {@link #inherit(Context)} on this thread.
+     *
+     * @param context  context of the subscriber waiting for the blocking lookup
+     * @param blocking the lookup
+     * @param <T>      result type
+     * @return the lookup's result
+     */
+    public static <T> T callWith(final ContextView context, final Supplier<T> blocking) {
+        LoadFailures failures = context.<LoadFailures>getOrEmpty(CONTEXT_KEY).orElse(null);
+        if (failures == null) {
+            return blocking.get();
+        }
+        BLOCKING.set(failures);
+        try {
+            return blocking.get();
+        } finally {
+            BLOCKING.remove();
+        }
+    }
+
+    /**
+     * Adds the instance of the blocking lookup on the subscribing thread, for
+     * pipelines that a blocking helper subscribes to with {@code block()}.
+     *
+     * @param context the pipeline's context
+     * @return {@code context}, carrying the blocking lookup's instance if there is one
+     */
+    public static Context inherit(final Context context) {
+        LoadFailures failures = BLOCKING.get();
+        return failures != null ? failures.attach(context) : context;
+    }
+}
@@ -0,0 +1,43 @@
+package com.components.scraper.service.core;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Result cache placed in front of {@link MpnSearchService#searchByMpn(String)}.
+ * <p>
+ * Entries are keyed by vendor and normalized MPN. The active implementation is
+ * chosen by {@code scraper.mpn-cache.enabled}; when the cache is disabled,
+ * every call goes straight to the loader.
+ * </p>
+ */
+public interface MpnResultCache {
+
+    /**
+     * Returns the cached rows for {@code vendor}/{@code mpn} or subscribes to
+     * {@code loader} and caches its non-empty result. Implementations may answer
+     * with outdated rows when the loader fails with a {@link VendorUnavailableException};
+     * they report that as a {@link Degradation}.
+     *
+     * @param vendor vendor identifier, e.g. "murata"
+     * @param mpn    manufacturer part number as supplied by the client
+     * @param loader performs the actual vendor lookup on a miss
+     * @return a {@link Mono} emitting a non-null, possibly empty list of result records
+     */
+    Mono<List<Map<String, Object>>> get(String vendor,
+                                        String mpn,
+                                        Supplier<Mono<List<Map<String, Object>>>> loader);
+
+    /**
+     * Canonical form of an MPN used as cache key: trimmed, whitespace removed, upper-cased.
+     *
+     * @param mpn raw part number
+     * @return normalized part number
+     */
+    static String normalizeMpn(final String mpn) {
+        return mpn == null ? "" : mpn.replaceAll("\\s+", "").toUpperCase(java.util.Locale.ROOT);
+    }
+}
@@ -0,0 +1,20 @@
+package com.components.scraper.service.core;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@link MpnResultCache} used when {@code scraper.mpn-cache.enabled=false}: always calls the loader.
+ */
+public class PassThroughMpnResultCache implements MpnResultCache {
+
+    @Override
+    public Mono<List<Map<String, Object>>> get(final String vendor,
+                                               final String mpn,
+                                               final Supplier<Mono<List<Map<String, Object>>>> loader) {
+        return Mono.defer(loader);
+    }
+}
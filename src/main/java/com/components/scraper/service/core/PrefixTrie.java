@@ -0,0 +1,247 @@
+package com.components.scraper.service.core;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Immutable, case-insensitive trie for longest-prefix lookups.
+ *
+ * <p>Keys are case-folded with {@link Character#toUpperCase(char)} when stored
+ * and when looked up, so {@code "grm"} and {@code "GRM"} are the same key. Each
+ * node keeps its child labels in a sorted {@code char[]}; a lookup walks at most
+ * one node per character of the probe, does a binary search per step and
+ * allocates nothing.</p>
+ *
+ * <p>Instances are built once with a {@link Builder} and are safe to share
+ * between threads.</p>
+ *
+ * @param <V> value type
+ */
+public final class PrefixTrie<V> {
+
+    private static final PrefixTrie<?> EMPTY = new PrefixTrie<>(Node.leaf(null), 0);
+
+    private final Node<V> root;
+
+    private final int size;
+
+    private PrefixTrie(final Node<V> root, final int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * @param <V> value type
+     * @return a trie without keys
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> PrefixTrie<V> empty() {
+        return (PrefixTrie<V>) EMPTY;
+    }
+
+    /**
+     * @param <V> value type
+     * @return a new, empty builder
+     */
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Value of the longest stored key that is a prefix of {@code probe}.
+     *
+     * @param probe text to match, e.g. a part number; {@code null} matches only the empty key
+     * @return the value, or {@code null} if no stored key is a prefix of {@code probe}
+     */
+    @Nullable
+    public V longestPrefixOf(@Nullable final CharSequence probe) {
+        Node<V> node = root;
+        V best = node.value;
+        if (probe == null) {
+            return best;
+        }
+        for (int i = 0; i < probe.length(); i++) {
+            node = node.child(Character.toUpperCase(probe.charAt(i)));
+            if (node == null) {
+                break;
+            }
+            if (node.value != null) {
+                best = node.value;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Like {@link #longestPrefixOf(CharSequence)}, but a stored key only matches
+     * where it ends at a {@code separator} in {@code probe} or at its end, so
+     * {@code "a/b"} matches {@code "a/b/c"} but not {@code "a/bc"}.
+     *
+     * @param probe     text to match, e.g. a category path
+     * @param separator segment separator, e.g. {@code '/'}
+     * @return the value, or {@code null} if no stored key is a whole-segment prefix of {@code probe}
+     */
+    @Nullable
+    public V longestPrefixOf(@Nullable final CharSequence probe, final char separator) {
+        Node<V> node = root;
+        V best = node.value;
+        if (probe == null) {
+            return best;
+        }
+        int length = probe.length();
+        for (int i = 0; i < length; i++) {
+            node = node.child(Character.toUpperCase(probe.charAt(i)));
+            if (node == null) {
+                break;
+            }
+            if (node.value != null && (i + 1 == length || probe.charAt(i + 1) == separator)) {
+                best = node.value;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Value stored for exactly {@code key}.
+     *
+     * @param key the key, compared case-insensitively
+     * @return the value, or {@code null} if {@code key} is not stored
+     */
+    @Nullable
+    public V get(final CharSequence key) {
+        Node<V> node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(Character.toUpperCase(key.charAt(i)));
+        }
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * @return number of stored keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Frozen trie node.
+     */
+    private static final class Node<V> {
+
+        private static final char[] NO_LABELS = new char[0];
+
+        private final char[] labels;
+
+        private final Node<V>[] children;
+
+        @Nullable
+        private final V value;
+
+        private Node(final char[] labels, final Node<V>[] children, @Nullable final V value) {
+            this.labels = labels;
+            this.children = children;
+            this.value = value;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <V> Node<V> leaf(@Nullable final V value) {
+            return new Node<>(NO_LABELS, (Node<V>[]) new Node<?>[0], value);
+        }
+
+        @Nullable
+        Node<V> child(final char label) {
+            int i = Arrays.binarySearch(labels, label);
+            return i >= 0 ? children[i] : null;
+        }
+    }
+
+    /**
+     * Mutable builder; keys are case-folded on insertion.
+     *
+     * @param <V> value type
+     */
+    public static final class Builder<V> {
+
+        private final BuildNode<V> root = new BuildNode<>();
+
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * Stores {@code value} for {@code key}, replacing any earlier value.
+         *
+         * @param key   the key
+         * @param value the value (not {@code null})
+         * @return this builder
+         */
+        public Builder<V> put(final CharSequence key, final V value) {
+            BuildNode<V> node = nodeFor(key);
+            if (node.value == null) {
+                size++;
+            }
+            node.value = Objects.requireNonNull(value, "value");
+            return this;
+        }
+
+        /**
+         * Stores {@code value} for {@code key} unless the key already has one.
+         *
+         * @param key   the key
+         * @param value the value (not {@code null})
+         * @return the value now stored for {@code key}
+         */
+        public V putIfAbsent(final CharSequence key, final V value) {
+            BuildNode<V> node = nodeFor(key);
+            if (node.value == null) {
+                size++;
+                node.value = Objects.requireNonNull(value, "value");
+            }
+            return node.value;
+        }
+
+        /**
+         * @return an immutable trie with the keys stored so far
+         */
+        public PrefixTrie<V> build() {
+            return new PrefixTrie<>(root.freeze(), size);
+        }
+
+        private BuildNode<V> nodeFor(final CharSequence key) {
+            BuildNode<V> node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(Character.toUpperCase(key.charAt(i)), c -> new BuildNode<>());
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Node of a trie under construction.
+     */
+    private static final class BuildNode<V> {
+
+        private final Map<Character, BuildNode<V>> children = new TreeMap<>();
+
+        @Nullable
+        private V value;
+
+        @SuppressWarnings("unchecked")
+        Node<V> freeze() {
+            char[] labels = new char[children.size()];
+            Node<V>[] frozen = (Node<V>[]) new Node<?>[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, BuildNode<V>> e : children.entrySet()) {
+                labels[i] = e.getKey();
+                frozen[i] = e.getValue().freeze();
+                i++;
+            }
+            return new Node<>(labels, frozen, value);
+        }
+    }
+}
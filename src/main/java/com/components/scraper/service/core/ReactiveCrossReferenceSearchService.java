@@ -0,0 +1,30 @@
+package com.components.scraper.service.core;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link CrossReferenceSearchService}.
+ */
+public interface ReactiveCrossReferenceSearchService extends CrossReferenceSearchService {
+
+    /**
+     * Reactive variant of {@link #searchByCrossReference(String, List)}.
+     *
+     * @param competitorPart the competitor's part number to look up; must be non-null and non-blank
+     * @param category       the category path that refines the search context; may be empty or null
+     * @return a {@link Mono} emitting a non-null, possibly empty list of result records
+     */
+    Mono<List<Map<String, Object>>> searchByCrossReferenceReactive(String competitorPart, List<String> category);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default List<Map<String, Object>> searchByCrossReference(final String competitorPart,
+                                                             final List<String> category) {
+        return searchByCrossReferenceReactive(competitorPart, category).blockOptional().orElse(List.of());
+    }
+}
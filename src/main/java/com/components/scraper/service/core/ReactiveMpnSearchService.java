@@ -0,0 +1,34 @@
+package com.components.scraper.service.core;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link MpnSearchService}.
+ * <p>
+ * Implementations compose the vendor round trips as a reactive pipeline so that
+ * a request waiting on a vendor holds no thread at all. The blocking
+ * {@link #searchByMpn(String)} contract is kept for existing callers and simply
+ * waits for the reactive result.
+ * </p>
+ */
+public interface ReactiveMpnSearchService extends MpnSearchService {
+
+    /**
+     * Reactive variant of {@link #searchByMpn(String)}.
+     *
+     * @param mpn the exact manufacturer part number to look up; must not be {@code null} or blank
+     * @return a {@link Mono} emitting a non-null, possibly empty list of result records
+     */
+    Mono<List<Map<String, Object>>> searchByMpnReactive(String mpn);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default List<Map<String, Object>> searchByMpn(final String mpn) {
+        return searchByMpnReactive(mpn).blockOptional().orElse(List.of());
+    }
+}
@@ -0,0 +1,45 @@
+package com.components.scraper.service.core;
+
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link ParametricSearchService}.
+ * <p>
+ * Rows are published one by one as they are parsed, which lets callers start
+ * writing the response before the whole grid has been materialised.
+ * </p>
+ */
+public interface ReactiveParametricSearchService extends ParametricSearchService {
+
+    /**
+     * Reactive variant of {@link #searchByParameters(String, String, Map, int)}.
+     *
+     * @param category    the primary product category (must not be {@code null} or blank)
+     * @param subcategory the optional subcategory, or {@code null}/blank
+     * @param parameters  a non-{@code null} map of filter names to values; may be empty
+     * @param maxResults  the maximum number of rows to emit; must be {@code >= 1}
+     * @return a {@link Flux} of product records, completing after at most {@code maxResults} rows
+     */
+    Flux<Map<String, Object>> searchByParametersReactive(
+            String category,
+            String subcategory,
+            Map<String, Object> parameters,
+            int maxResults);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default List<Map<String, Object>> searchByParameters(final String category,
+                                                         final String subcategory,
+                                                         final Map<String, Object> parameters,
+                                                         final int maxResults) {
+        return searchByParametersReactive(category, subcategory, parameters, maxResults)
+                .collectList()
+                .blockOptional()
+                .orElse(List.of());
+    }
+}
@@ -0,0 +1,114 @@
+package com.components.scraper.service.core;
+
+import com.components.scraper.config.ScraperProperties;
+import com.components.scraper.config.ScraperProperties.ExecutionMode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Runs a search request according to the configured {@link ExecutionMode}.
+ *
+ * <p>Controllers hand over both flavours of a lookup – the blocking service call
+ * and its reactive counterpart – and the dispatcher picks one:</p>
+ * <ul>
+ *   <li>{@link ExecutionMode#REACTIVE}: subscribes to the reactive pipeline directly.</li>
+ *   <li>{@link ExecutionMode#VIRTUAL_THREADS}: runs the blocking call on a new virtual
+ *       thread. The {@code .block()} inside {@link VendorSearchEngine} parks the virtual
+ *       thread and frees its carrier, so thousands of lookups can be in flight on a
+ *       handful of carrier threads.</li>
+ *   <li>{@link ExecutionMode#PLATFORM_THREADS}: runs the blocking call on a bounded
+ *       platform-thread pool, reproducing the classic thread-per-request baseline.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SearchDispatcher implements DisposableBean {
+
+    /**
+     * Active execution mode.
+     */
+    @Getter
+    private final ExecutionMode mode;
+
+    /**
+     * Scheduler for the blocking modes; {@code null} in reactive mode.
+     */
+    private final Scheduler blockingScheduler;
+
+    /**
+     * Creates the dispatcher and, for the blocking modes, its scheduler.
+     *
+     * @param props scraper settings holding {@code scraper.execution.*}
+     */
+    public SearchDispatcher(final ScraperProperties props) {
+        ScraperProperties.Execution execution = props.getExecution();
+        this.mode = execution.getMode();
+        this.blockingScheduler = switch (mode) {
+            case REACTIVE -> null;
+            case VIRTUAL_THREADS -> {
+                ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name("vendor-vt-", 0).factory());
+                yield Schedulers.fromExecutorService(executor, "vendor-vt");
+            }
+            case PLATFORM_THREADS -> Schedulers.newBoundedElastic(
+                    execution.getPlatformThreads(),
+                    execution.getPlatformQueueCapacity(),
+                    "vendor-platform");
+        };
+        log.info("Search execution mode: {}", mode);
+    }
+
+    /**
+     * Executes a single-result lookup.
+     *
+     * @param blocking blocking service call, used by the thread-based modes
+     * @param reactive reactive service call, used in {@link ExecutionMode#REACTIVE}
+     * @param <T>      result type
+     * @return the lookup result
+     */
+    public <T> Mono<T> dispatch(final Supplier<T> blocking, final Supplier<Mono<T>> reactive) {
+        if (blockingScheduler == null) {
+            return Mono.defer(reactive);
+        }
+        return Mono.deferContextual(ctx -> Mono.fromSupplier(() -> LoadFailures.callWith(ctx, blocking)))
+                .subscribeOn(blockingScheduler);
+    }
+
+    /**
+     * Executes a multi-row lookup.
+     *
+     * @param blocking blocking service call, used by the thread-based modes
+     * @param reactive reactive service call, used in {@link ExecutionMode#REACTIVE}
+     * @param <T>      row type
+     * @return the rows
+     */
+    public <T> Flux<T> dispatchMany(final Supplier<List<T>> blocking, final Supplier<Flux<T>> reactive) {
+        if (blockingScheduler == null) {
+            return Flux.defer(reactive);
+        }
+        return Mono.deferContextual(ctx -> Mono.fromSupplier(() -> LoadFailures.callWith(ctx, blocking)))
+                .subscribeOn(blockingScheduler)
+                .flatMapIterable(rows -> rows);
+    }
+
+    /**
+     * Releases the blocking scheduler on shutdown.
+     */
+    @Override
+    public void destroy() {
+        if (blockingScheduler != null) {
+            blockingScheduler.dispose();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.components.scraper.service.core;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical in-flight vendor calls.
+ *
+ * <p>While a call for a key is running, further callers with the same key
+ * subscribe to the running call instead of starting their own, and all of them
+ * receive the same result – or the same error. The key is dropped as soon as
+ * the call terminates, so nothing is cached beyond the flight itself.</p>
+ *
+ * <p>The shared call is not cancelled when one of its subscribers goes away;
+ * the remaining subscribers still get the result. Shared results must be
+ * treated as read-only.</p>
+ */
+public final class SingleFlight {
+
+    private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter coalesced;
+
+    /**
+     * @param vendor   vendor identifier used as meter tag
+     * @param registry meter registry for {@code vendor.singleflight.coalesced}
+     */
+    public SingleFlight(final String vendor, final MeterRegistry registry) {
+        this.coalesced = Counter.builder("vendor.singleflight.coalesced")
+                .tag("vendor", vendor)
+                .description("Vendor calls served by joining an identical in-flight call")
+                .register(registry);
+    }
+
+    /**
+     * Runs {@code call} unless an identical call is already in flight.
+     *
+     * @param key  identifies identical calls, e.g. method, URI and body
+     * @param call starts the upstream call
+     * @param <T>  result type
+     * @return the (possibly shared) result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(final String key, final Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            Mono<T> running = (Mono<T>) inFlight.get(key);
+            if (running != null) {
+                coalesced.increment();
+                return running;
+            }
+            Mono<?>[] self = new Mono<?>[1];
+            Mono<T> flight = Mono.defer(call)
+                    .doFinally(sig -> inFlight.remove(key, self[0]))
+                    .cache();
+            self[0] = flight;
+
+            Mono<T> raced = (Mono<T>) inFlight.putIfAbsent(key, flight);
+            if (raced != null) {
+                coalesced.increment();
+                return raced;
+            }
+            return flight;
+        });
+    }
+
+    /**
+     * @return number of distinct calls currently in flight
+     */
+    public int size() {
+        return inFlight.size();
+    }
+}
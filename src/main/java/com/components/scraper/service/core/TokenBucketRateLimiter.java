@@ -0,0 +1,204 @@
+package com.components.scraper.service.core;
+
+import com.components.scraper.config.VendorCfg;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Non-blocking token-bucket limiter applied as a {@link ExchangeFilterFunction}.
+ *
+ * <p>The bucket is implemented with the generic cell rate algorithm (GCRA): a
+ * single "theoretical arrival time" is advanced by one emission interval
+ * ({@code 1s / permits-per-second}) per granted permit, and a request may
+ * proceed as long as that time is no more than {@code burst} intervals ahead of
+ * now. This gives a smooth refill without a background thread or a lock.</p>
+ *
+ * <p>When no token is free, the request reserves the next slot and waits for it
+ * with {@link Mono#delay(Duration)} – no thread is parked; a request cancelled
+ * while waiting returns its slot. Requests fail fast
+ * with {@link VendorRateLimitException} if the wait would exceed
+ * {@code max-wait} or {@code max-queue} requests are already waiting.</p>
+ *
+ * <p>Meters, tagged with {@code vendor}:</p>
+ * <ul>
+ *   <li>{@code vendor.ratelimit.permits.available} – tokens currently in the bucket</li>
+ *   <li>{@code vendor.ratelimit.queued} – requests waiting for a permit</li>
+ *   <li>{@code vendor.ratelimit.wait} – time spent waiting for a permit</li>
+ *   <li>{@code vendor.ratelimit.rejected} – requests refused by the limiter</li>
+ * </ul>
+ */
+@Slf4j
+public final class TokenBucketRateLimiter implements ExchangeFilterFunction {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final String vendor;
+
+    /**
+     * Nanoseconds between two permits at the sustained rate.
+     */
+    private final long emissionInterval;
+
+    /**
+     * How far the theoretical arrival time may run ahead of now (the burst allowance).
+     */
+    private final long burstTolerance;
+
+    private final int burst;
+
+    private final long maxWaitNanos;
+
+    private final int maxQueue;
+
+    /**
+     * Theoretical arrival time of the next conforming request, in {@link System#nanoTime()} units.
+     */
+    private final AtomicLong tat;
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final Timer waitTimer;
+
+    private final Counter rejected;
+
+    /**
+     * Creates a limiter for one vendor from its {@code rate-limit} block.
+     *
+     * @param vendor   vendor identifier used in meter tags and errors
+     * @param cfg      rate-limit settings
+     * @param registry meter registry for the limiter metrics
+     */
+    public TokenBucketRateLimiter(final String vendor,
+                                  final VendorCfg.RateLimit cfg,
+                                  final MeterRegistry registry) {
+        this.vendor = vendor;
+        this.burst = Math.max(1, cfg.getBurst());
+        this.emissionInterval = NANOS_PER_SECOND / Math.max(1, cfg.getPermitsPerSecond());
+        this.burstTolerance = emissionInterval * (burst - 1);
+        this.maxWaitNanos = cfg.getMaxWait().toNanos();
+        this.maxQueue = cfg.getMaxQueue();
+        this.tat = new AtomicLong(System.nanoTime());
+
+        Gauge.builder("vendor.ratelimit.permits.available", this, TokenBucketRateLimiter::availablePermits)
+                .tag("vendor", vendor)
+                .description("Tokens currently available in the vendor rate-limit bucket")
+                .register(registry);
+        Gauge.builder("vendor.ratelimit.queued", queued, AtomicInteger::get)
+                .tag("vendor", vendor)
+                .description("Requests waiting for a vendor rate-limit permit")
+                .register(registry);
+        this.waitTimer = Timer.builder("vendor.ratelimit.wait")
+                .tag("vendor", vendor)
+                .description("Time spent waiting for a vendor rate-limit permit")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.rejected = Counter.builder("vendor.ratelimit.rejected")
+                .tag("vendor", vendor)
+                .description("Requests rejected by the vendor rate limiter")
+                .register(registry);
+    }
+
+    @Override
+    @NonNull
+    public Mono<ClientResponse> filter(@NonNull final ClientRequest request, @NonNull final ExchangeFunction next) {
+        return acquire().then(Mono.defer(() -> next.exchange(request)));
+    }
+
+    /**
+     * Reserves one permit, completing once it may be used.
+     *
+     * @return a {@link Mono} that completes when the caller may proceed, or errors with
+     *         {@link VendorRateLimitException} when the limiter is saturated
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long wait = reserve();
+            if (wait == 0) {
+                waitTimer.record(0, TimeUnit.NANOSECONDS);
+                return Mono.empty();
+            }
+            long start = System.nanoTime();
+            return Mono.delay(Duration.ofNanos(wait))
+                    .doOnCancel(this::unreserve)
+                    .doFinally(sig -> {
+                        queued.decrementAndGet();
+                        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    })
+                    .then();
+        });
+    }
+
+    /**
+     * Atomically claims the next slot.
+     *
+     * @return nanoseconds to wait before the slot may be used; {@code 0} if it is free now
+     * @throws VendorRateLimitException if the wait or the queue would exceed their bounds
+     */
+    private long reserve() {
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            long base = Math.max(current, now);
+            long wait = Math.max(0, base - burstTolerance - now);
+
+            if (wait > 0) {
+                if (wait > maxWaitNanos) {
+                    throw reject(wait, "next permit in " + Duration.ofNanos(wait).toMillis() + " ms");
+                }
+                int q = queued.incrementAndGet();
+                if (q > maxQueue) {
+                    queued.decrementAndGet();
+                    throw reject(wait, q - 1 + " requests already queued");
+                }
+                if (tat.compareAndSet(current, base + emissionInterval)) {
+                    return wait;
+                }
+                queued.decrementAndGet();
+            } else if (tat.compareAndSet(current, base + emissionInterval)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Gives back the slot of a request cancelled while waiting for it: the
+     * theoretical arrival time moves back one interval, never behind now, so the
+     * next request may use the freed capacity.
+     */
+    private void unreserve() {
+        long now = System.nanoTime();
+        tat.getAndUpdate(current -> Math.max(now, current - emissionInterval));
+    }
+
+    private VendorRateLimitException reject(final long waitNanos, final String reason) {
+        rejected.increment();
+        log.debug("Rate limiter for {} rejected request: {}", vendor, reason);
+        return new VendorRateLimitException(vendor, Duration.ofNanos(waitNanos), reason);
+    }
+
+    /**
+     * @return tokens currently in the bucket, between {@code 0} and {@code burst}
+     */
+    private double availablePermits() {
+        long ahead = tat.get() - System.nanoTime();
+        if (ahead <= 0) {
+            return burst;
+        }
+        long used = (ahead + emissionInterval - 1) / emissionInterval;
+        return Math.max(0, burst - used);
+    }
+}
@@ -0,0 +1,218 @@
+package com.components.scraper.service.core;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.lang.NonNull;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Per-vendor meters for upstream calls and for parsing their responses.
+ *
+ * <p>As an {@link ExchangeFilterFunction} it times each exchange from sending the
+ * request to the last byte of the response body and counts the bytes received.
+ * It must be the innermost filter, so the time spent waiting for a
+ * {@link TokenBucketRateLimiter} permit is not included. The operation comes from
+ * the {@link #OPERATION_ATTRIBUTE} request attribute.</p>
+ *
+ * <ul>
+ *   <li>{@code vendor.request} – timer tagged {@code vendor}, {@code operation},
+ *       {@code outcome} ({@code success}, {@code client_error}, {@code rate_limited},
+ *       {@code server_error}, {@code timeout}, {@code error}, {@code cancelled})</li>
+ *   <li>{@code vendor.response.bytes} – response body size per {@code vendor}, {@code operation}</li>
+ *   <li>{@code vendor.parse} – timer per {@code vendor}, {@code operation}, {@code stage}
+ *       ({@code json} for decoding the body, {@code grid} for extracting rows)</li>
+ *   <li>{@code vendor.rows} – rows returned per parsed response</li>
+ * </ul>
+ *
+ * <p>Time waiting for a pooled connection is published by Reactor Netty as
+ * {@code reactor.netty.connection.provider.pending.connections.time}, tagged with
+ * the pool name {@code vendor-<vendor>}.</p>
+ */
+public final class VendorMetrics implements ExchangeFilterFunction {
+
+    /**
+     * Request attribute holding the {@link VendorOperation} of a call.
+     */
+    public static final String OPERATION_ATTRIBUTE = VendorMetrics.class.getName() + ".operation";
+
+    /** Parse stage decoding a response body into a JSON tree. */
+    public static final String STAGE_JSON = "json";
+
+    /** Parse stage extracting rows with the vendor grid parser. */
+    public static final String STAGE_GRID = "grid";
+
+    private static final String UNKNOWN_OPERATION = "other";
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final String vendor;
+
+    private final MeterRegistry registry;
+
+    private final Map<String, Timer> requestTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, Timer> parseTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, DistributionSummary> responseBytes = new ConcurrentHashMap<>();
+
+    private final Map<String, DistributionSummary> rows = new ConcurrentHashMap<>();
+
+    /**
+     * @param vendor   vendor identifier used as meter tag
+     * @param registry meter registry for the {@code vendor.*} meters
+     */
+    public VendorMetrics(final String vendor, final MeterRegistry registry) {
+        this.vendor = vendor;
+        this.registry = registry;
+    }
+
+    @Override
+    @NonNull
+    public Mono<ClientResponse> filter(@NonNull final ClientRequest request, @NonNull final ExchangeFunction next) {
+        String operation = request.attribute(OPERATION_ATTRIBUTE)
+                .map(op -> ((VendorOperation) op).tag())
+                .orElse(UNKNOWN_OPERATION);
+        return Mono.defer(() -> {
+            Exchange exchange = new Exchange(operation, System.nanoTime());
+            return next.exchange(request)
+                    .doOnError(e -> exchange.finish(outcomeOf(e)))
+                    .doOnCancel(() -> exchange.finish("cancelled"))
+                    .map(response -> {
+                        String outcome = outcomeOf(response.statusCode());
+                        return response.mutate()
+                                .body(body -> body
+                                        .doOnNext(buf -> exchange.bytes += buf.readableByteCount())
+                                        .doFinally(sig -> exchange.finish(sig == SignalType.ON_COMPLETE
+                                                ? outcome
+                                                : sig == SignalType.CANCEL ? "cancelled" : "error")))
+                                .build();
+                    });
+        });
+    }
+
+    /**
+     * Runs and times one parse stage.
+     *
+     * @param operation kind of call the response belongs to
+     * @param stage     {@link #STAGE_JSON} or {@link #STAGE_GRID}
+     * @param parse     the parsing work
+     * @param <T>       result type
+     * @return the parse result
+     */
+    public <T> T timeParse(final VendorOperation operation, final String stage, final Supplier<T> parse) {
+        long start = System.nanoTime();
+        try {
+            return parse.get();
+        } finally {
+            recordParse(operation, stage, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records the duration of a parse stage that was timed by the caller.
+     *
+     * @param operation kind of call the response belongs to
+     * @param stage     {@link #STAGE_JSON} or {@link #STAGE_GRID}
+     * @param nanos     elapsed time
+     */
+    public void recordParse(final VendorOperation operation, final String stage, final long nanos) {
+        parseTimers.computeIfAbsent(operation.tag() + '|' + stage, k -> Timer.builder("vendor.parse")
+                        .tag("vendor", vendor)
+                        .tag("operation", operation.tag())
+                        .tag("stage", stage)
+                        .description("Time spent parsing vendor responses")
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param operation kind of call the rows came from
+     * @param count     rows extracted from one response
+     */
+    public void recordRows(final VendorOperation operation, final int count) {
+        rows.computeIfAbsent(operation.tag(), op -> DistributionSummary.builder("vendor.rows")
+                        .tag("vendor", vendor)
+                        .tag("operation", op)
+                        .description("Rows extracted from a vendor response")
+                        .register(registry))
+                .record(count);
+    }
+
+    private void recordRequest(final String operation, final String outcome, final long nanos, final long size) {
+        requestTimers.computeIfAbsent(operation + '|' + outcome, k -> Timer.builder("vendor.request")
+                        .tag("vendor", vendor)
+                        .tag("operation", operation)
+                        .tag("outcome", outcome)
+                        .description("Vendor call from sending the request to the end of the response body")
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+        if (size > 0) {
+            responseBytes.computeIfAbsent(operation, op -> DistributionSummary.builder("vendor.response.bytes")
+                            .tag("vendor", vendor)
+                            .tag("operation", op)
+                            .baseUnit("bytes")
+                            .description("Size of vendor response bodies")
+                            .register(registry))
+                    .record(size);
+        }
+    }
+
+    private static String outcomeOf(final HttpStatusCode status) {
+        if (status.is2xxSuccessful() || status.is3xxRedirection()) {
+            return "success";
+        }
+        if (status.value() == TOO_MANY_REQUESTS) {
+            return "rate_limited";
+        }
+        return status.is4xxClientError() ? "client_error" : "server_error";
+    }
+
+    private static String outcomeOf(final Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException
+                    || t instanceof io.netty.handler.timeout.TimeoutException) {
+                return "timeout";
+            }
+        }
+        return "error";
+    }
+
+    /**
+     * State of one exchange; recorded once, by whichever terminal signal comes first.
+     */
+    private final class Exchange {
+
+        private final String operation;
+
+        private final long start;
+
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private long bytes;
+
+        Exchange(final String operation, final long start) {
+            this.operation = operation;
+            this.start = start;
+        }
+
+        void finish(final String outcome) {
+            if (done.compareAndSet(false, true)) {
+                recordRequest(operation, outcome, System.nanoTime() - start, bytes);
+            }
+        }
+    }
+}
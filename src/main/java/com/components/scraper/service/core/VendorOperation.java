@@ -0,0 +1,36 @@
+package com.components.scraper.service.core;
+
+/**
+ * Kind of upstream call, used as the {@code operation} tag of the vendor meters
+ * (see {@link VendorMetrics}).
+ */
+public enum VendorOperation {
+
+    /** Part-number lookup. */
+    MPN("mpn"),
+
+    /** Parametric (filter) search. */
+    PARAMETRIC("parametric"),
+
+    /** Competitor cross-reference. */
+    XREF("xref"),
+
+    /** Murata site search used to discover a part's category. */
+    SITE_SEARCH("site-search"),
+
+    /** Chat-completion call to the LLM. */
+    LLM("llm");
+
+    private final String tag;
+
+    VendorOperation(final String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * @return the meter tag value
+     */
+    public String tag() {
+        return tag;
+    }
+}
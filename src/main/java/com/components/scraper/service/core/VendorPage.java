@@ -0,0 +1,18 @@
+package com.components.scraper.service.core;
+
+/**
+ * One page of a paged vendor response, as consumed by
+ * {@link VendorSearchEngine#fetchPages(int, int, VendorSearchEngine.PageFetcher)}.
+ *
+ * @param content what the caller extracted from the page (rows, or the decoded body)
+ * @param size    number of rows on the page; a page shorter than the page size is the last one
+ * @param total   total number of matches the vendor reports, or {@link #UNKNOWN_TOTAL}
+ * @param <T>     content type
+ */
+public record VendorPage<T>(T content, int size, int total) {
+
+    /**
+     * {@link #total()} of a response that does not report its total.
+     */
+    public static final int UNKNOWN_TOTAL = -1;
+}
@@ -0,0 +1,41 @@
+package com.components.scraper.service.core;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+
+/**
+ * Raised when a vendor's client-side rate limiter cannot grant a permit within
+ * the configured bounds – either the wait queue is full or the next permit lies
+ * further ahead than {@code rate-limit.max-wait}.
+ *
+ * <p>Surfaces to API clients as HTTP 429 so they back off instead of receiving
+ * an empty result that looks like "no match".</p>
+ */
+@Getter
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class VendorRateLimitException extends RuntimeException {
+
+    /**
+     * Vendor whose limiter rejected the request.
+     */
+    private final String vendor;
+
+    /**
+     * How long the caller would have had to wait for the next permit.
+     */
+    private final Duration retryAfter;
+
+    /**
+     * @param vendor     vendor identifier
+     * @param retryAfter estimated wait until a permit becomes available
+     * @param reason     short human-readable cause
+     */
+    public VendorRateLimitException(final String vendor, final Duration retryAfter, final String reason) {
+        super("Rate limit for vendor " + vendor + " exceeded: " + reason);
+        this.vendor = vendor;
+        this.retryAfter = retryAfter;
+    }
+}
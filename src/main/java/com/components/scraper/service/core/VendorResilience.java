@@ -0,0 +1,161 @@
+package com.components.scraper.service.core;
+
+import com.components.scraper.config.VendorCfg;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Resilience4j circuit breaker and bulkhead shared by every call to one vendor host.
+ *
+ * <ul>
+ *   <li><b>Circuit breaker</b> – opens when {@code circuit-breaker.failure-rate-threshold}
+ *       percent of the last {@code sliding-window-size} calls failed (5xx, 429,
+ *       timeout, connection error) or {@code slow-call-rate-threshold} percent were
+ *       slower than {@code slow-call-duration-threshold}. Other 4xx answers and
+ *       local rate-limit rejections are not vendor failures. While open, calls fail
+ *       immediately for {@code wait-duration-in-open-state}, then a few trial calls
+ *       decide whether it closes again.</li>
+ *   <li><b>Bulkhead</b> – at most {@code bulkhead.max-concurrent-calls} calls in
+ *       flight, counting those still waiting in the {@link AdaptiveConcurrencyLimiter};
+ *       further calls are rejected without waiting.</li>
+ * </ul>
+ *
+ * <p>Both rejections surface as {@link VendorUnavailableException}.</p>
+ *
+ * <p>Meters, tagged with {@code vendor}: the gauge {@code vendor.circuit.state}
+ * (0 closed, 1 open, 2 half-open) and the counter
+ * {@code vendor.unavailable{reason=circuit_open|bulkhead_full}}.</p>
+ */
+@Slf4j
+public final class VendorResilience {
+
+    /** Suggested retry delay after a bulkhead rejection. */
+    private static final Duration BULKHEAD_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final String vendor;
+
+    @Nullable
+    private final CircuitBreaker circuitBreaker;
+
+    @Nullable
+    private final Bulkhead bulkhead;
+
+    private final Duration openRetryAfter;
+
+    private final Counter circuitOpen;
+
+    private final Counter bulkheadFull;
+
+    /**
+     * @param vendor      vendor identifier used in names, meter tags and errors
+     * @param breaker     the vendor's {@code circuit-breaker} settings
+     * @param bulkheadCfg the vendor's {@code bulkhead} settings
+     * @param registry    meter registry for the state gauge and rejection counter
+     */
+    public VendorResilience(final String vendor,
+                            final VendorCfg.CircuitBreaker breaker,
+                            final VendorCfg.Bulkhead bulkheadCfg,
+                            final MeterRegistry registry) {
+        this.vendor = vendor;
+        this.openRetryAfter = breaker.getWaitDurationInOpenState();
+        this.circuitBreaker = breaker.isEnabled()
+                ? CircuitBreaker.of("vendor-" + vendor, breakerConfig(breaker))
+                : null;
+        this.bulkhead = bulkheadCfg.isEnabled()
+                ? Bulkhead.of("vendor-" + vendor, BulkheadConfig.custom()
+                        .maxConcurrentCalls(Math.max(1, bulkheadCfg.getMaxConcurrentCalls()))
+                        .maxWaitDuration(Duration.ZERO)      // never park the subscribing thread
+                        .build())
+                : null;
+
+        if (circuitBreaker != null) {
+            circuitBreaker.getEventPublisher().onStateTransition(e ->
+                    log.warn("Circuit breaker for {}: {}", vendor, e.getStateTransition()));
+            Gauge.builder("vendor.circuit.state", circuitBreaker, cb -> cb.getState().getOrder())
+                    .tag("vendor", vendor)
+                    .description("Vendor circuit breaker state: 0 closed, 1 open, 2 half-open")
+                    .register(registry);
+        }
+        this.circuitOpen = counter(registry, vendor, "circuit_open");
+        this.bulkheadFull = counter(registry, vendor, "bulkhead_full");
+    }
+
+    /**
+     * Runs {@code call} through the bulkhead and the circuit breaker.
+     *
+     * @param call one upstream call, including its timeout
+     * @param <T>  result type
+     * @return the call's result, or a {@link VendorUnavailableException} if it was not let through
+     */
+    public <T> Mono<T> protect(final Mono<T> call) {
+        Mono<T> guarded = call;
+        if (bulkhead != null) {
+            guarded = guarded.transformDeferred(BulkheadOperator.of(bulkhead));
+        }
+        if (circuitBreaker != null) {
+            guarded = guarded.transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+        }
+        return guarded
+                .onErrorMap(CallNotPermittedException.class, e -> {
+                    circuitOpen.increment();
+                    return new VendorUnavailableException(vendor, "circuit open", openRetryAfter, e);
+                })
+                .onErrorMap(BulkheadFullException.class, e -> {
+                    bulkheadFull.increment();
+                    return new VendorUnavailableException(vendor, "too many concurrent calls",
+                            BULKHEAD_RETRY_AFTER, e);
+                });
+    }
+
+    private static CircuitBreakerConfig breakerConfig(final VendorCfg.CircuitBreaker cfg) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(cfg.getSlidingWindowSize())
+                .minimumNumberOfCalls(cfg.getMinimumNumberOfCalls())
+                .failureRateThreshold(cfg.getFailureRateThreshold())
+                .slowCallRateThreshold(cfg.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(cfg.getSlowCallDurationThreshold())
+                .waitDurationInOpenState(cfg.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(cfg.getPermittedCallsInHalfOpenState())
+                .recordException(VendorResilience::isVendorFailure)
+                .ignoreExceptions(VendorRateLimitException.class, BulkheadFullException.class)
+                .build();
+    }
+
+    /**
+     * Server errors, throttling, timeouts and I/O errors count against the vendor;
+     * client errors such as 404 do not.
+     */
+    private static boolean isVendorFailure(final Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError()
+                    || response.getStatusCode().value() == TOO_MANY_REQUESTS;
+        }
+        return true;
+    }
+
+    private static Counter counter(final MeterRegistry registry, final String vendor, final String reason) {
+        return Counter.builder("vendor.unavailable")
+                .tag("vendor", vendor)
+                .tag("reason", reason)
+                .description("Vendor calls refused by the circuit breaker or bulkhead")
+                .register(registry);
+    }
+}
@@ -3,11 +3,14 @@ package com.components.scraper.service.core;
 import com.components.scraper.ai.LLMHelper;
 import com.components.scraper.config.VendorCfg;
 import com.components.scraper.parser.JsonGridParser;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
+import com.fasterxml.jackson.core.filter.TokenFilter;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.netty.channel.ChannelOption;
-import io.netty.handler.logging.LogLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -25,13 +28,9 @@ import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
-import reactor.netty.http.HttpProtocol;
-import reactor.netty.http.client.HttpClient;
-import reactor.netty.resources.ConnectionProvider;
-import reactor.netty.transport.logging.AdvancedByteBufFormat;
-import reactor.util.function.Tuple2;
 
 import java.io.IOException;
 import java.net.URI;
@@ -41,14 +40,13 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Getter
 public abstract class VendorSearchEngine {
 
-    public static final Long MILLISECONDS_VALUE = 1_000_000L;
-
     private final Map<String, String> antiBotCookies = new ConcurrentHashMap<>();
 
     public static final int PARTNO_PREFIX_LENGTH = 3;
@@ -57,127 +55,457 @@ public abstract class VendorSearchEngine {
 
     private final WebClient webClient;
 
+    /**
+     * Connection pool and HTTP client shared with every engine of the same vendor host.
+     */
+    private final VendorTransport transport;
+
     protected final LLMHelper llmHelper;
 
     private final JsonGridParser parser;
 
     private static final Duration HTTP_TIMEOUT = Duration.ofSeconds(25);
 
-    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(20);
+    private static final byte[] EMPTY_BODY = new byte[0];
 
-    private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(20);
+    /**
+     * Page size cap when neither the vendor nor {@code vendors.max-page-size} sets one.
+     */
+    private static final int DEFAULT_MAX_PAGE_SIZE = 100;
 
-    private static final Duration POOL_ACQUIRE_DELAY = Duration.ofSeconds(2);
+    private final ObjectMapper mapper;
 
-    private static final int MAX_CONNECTIONS = 50;
+    /**
+     * {@code categories} of the vendor config, for longest-prefix lookups by part number.
+     */
+    private final PrefixTrie<String> categoryPrefixes;
 
-    private final ObjectMapper mapper;
+    /**
+     * {@code cross-ref-categories} of the vendor config, for longest-prefix lookups by competitor part number.
+     */
+    private final PrefixTrie<String> crossRefPrefixes;
 
     protected VendorSearchEngine(final VendorCfg cfg,
                                  final WebClient.Builder builder,
+                                 final VendorTransportRegistry transports,
                                  final LLMHelper llmHelper,
                                  final JsonGridParser parser,
                                  final ObjectMapper mapper
     ) {
         this.cfg = cfg;
+        this.transport = transports.transportFor(cfg);
         this.webClient = buildWebClient(builder);
         this.llmHelper = llmHelper;
         this.parser = parser;
         this.mapper = mapper;
+        this.categoryPrefixes = prefixTrie(cfg.getCategories());
+        this.crossRefPrefixes = prefixTrie(cfg.getCrossRefCategories());
+    }
+
+    /**
+     * Vendor-specific warm-up, e.g. fetching session cookies, run in the background
+     * by {@link VendorWarmup} once the application context is refreshed. Requests
+     * arriving earlier must still work. Does nothing by default.
+     *
+     * @return completes when the engine is warm; errors are logged and ignored
+     */
+    public Mono<Void> warmUp() {
+        return Mono.empty();
     }
 
-    protected JsonNode safeGet(final URI uri) {
+    protected JsonNode safeGet(final VendorOperation operation, final URI uri) {
         try {
-            return webClient.get()
-                    .uri(uri)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .cookies(c -> antiBotCookies.forEach(c::add))
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .timeout(HTTP_TIMEOUT)
-                    .block();
-        } catch (Exception ex) {
+            return getAsync(operation, uri).contextWrite(LoadFailures::inherit).block();
+        } catch (VendorRateLimitException | VendorUnavailableException ex) {
+            throw ex;
+        } catch (Exception ex) {            // protects .block() interruption etc.
             log.warn("safeGet failed for {}: {}", uri, ex.toString());
             return mapper.createObjectNode();
         }
     }
 
-    protected JsonNode safePost(final URI uri, final MultiValueMap<String, String> form) {
+    /**
+     * Non-blocking variant of {@link #safeGet(VendorOperation, URI)}: issues the GET
+     * and emits the decoded JSON body, degrading to an empty {@link ObjectNode} on
+     * any error except a {@link VendorRateLimitException} or a
+     * {@link VendorUnavailableException}; a swallowed error is noted in the
+     * subscriber's {@link LoadFailures}. Concurrent calls for the same URI share
+     * one upstream request and its (read-only) result, which is hedged when the
+     * vendor enables {@code hedge} (see {@link HedgingPolicy}) and passes the
+     * vendor's {@link VendorResilience}.
+     *
+     * @param operation kind of call, for the {@link VendorMetrics} tags
+     * @param uri       absolute request URI
+     * @return a {@link Mono} emitting exactly one {@link JsonNode}
+     */
+    protected Mono<JsonNode> getAsync(final VendorOperation operation, final URI uri) {
+        return transport.getSingleFlight().execute("GET " + uri, () -> protectedGet(operation, uri)
+                        .map(bytes -> toJson(operation, bytes))
+                        .defaultIfEmpty(mapper.createObjectNode()))
+                // graceful degradation per subscriber; saturation and an open breaker are reported to the caller
+                .onErrorResume(VendorSearchEngine::isDegradable, e -> {
+                    log.warn("safeGet failed for {}: {}", uri, e.toString());
+                    return LoadFailures.record().thenReturn(mapper.createObjectNode());
+                });
+    }
+
+    /**
+     * Issues a GET and emits the raw response body, for callers that parse it with
+     * the streaming {@link JsonGridParser#parse(JsonParser, java.util.function.Consumer)}
+     * overload (see {@link #parseRows(VendorOperation, byte[])}). Degrades to an
+     * empty body on any error except a {@link VendorRateLimitException} or a
+     * {@link VendorUnavailableException} (noted in the subscriber's {@link LoadFailures});
+     * concurrent calls for the same URI share one (possibly hedged) upstream request.
+     *
+     * @param operation kind of call, for the {@link VendorMetrics} tags
+     * @param uri       absolute request URI
+     * @return a {@link Mono} emitting exactly one (possibly empty) byte array
+     */
+    protected Mono<byte[]> getBytesAsync(final VendorOperation operation, final URI uri) {
+        return degradeBody(uri, transport.getSingleFlight().execute("GET(raw) " + uri,
+                () -> protectedGet(operation, uri).defaultIfEmpty(EMPTY_BODY)));
+    }
+
+    /**
+     * Like {@link #getBytesAsync(VendorOperation, URI)}, but never joins or shares
+     * an in-flight call, so cancelling the subscription really stops the upstream
+     * request. Meant for speculative calls that are likely to be abandoned.
+     *
+     * @param operation kind of call, for the {@link VendorMetrics} tags
+     * @param uri       absolute request URI
+     * @return a {@link Mono} emitting exactly one (possibly empty) byte array
+     */
+    protected Mono<byte[]> getBytesUnsharedAsync(final VendorOperation operation, final URI uri) {
+        return degradeBody(uri, protectedGet(operation, uri).defaultIfEmpty(EMPTY_BODY));
+    }
+
+    /**
+     * Graceful degradation per subscriber; saturation and an open breaker are reported to the caller.
+     */
+    private Mono<byte[]> degradeBody(final URI uri, final Mono<byte[]> body) {
+        return body.onErrorResume(VendorSearchEngine::isDegradable, e -> {
+            log.warn("GET Resource {} failed: {}", uri.getPath(), e.toString());
+            return LoadFailures.record().thenReturn(EMPTY_BODY);
+        });
+    }
+
+    /**
+     * One GET per attempt through the bulkhead and circuit breaker, so a hedge
+     * holds its own bulkhead permit and the breaker sees each attempt.
+     */
+    private Mono<byte[]> protectedGet(final VendorOperation operation, final URI uri) {
+        return transport.getHedging().execute(operation, () -> transport.getResilience().protect(webClient.get()
+                .uri(uri)
+                .attribute(VendorMetrics.OPERATION_ATTRIBUTE, operation)
+                .accept(MediaType.APPLICATION_JSON)
+                .cookies(c -> antiBotCookies.forEach(c::add))
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .timeout(HTTP_TIMEOUT)));
+    }
+
+    /**
+     * Errors that the helpers turn into an empty result; rejections by the rate
+     * limiter, bulkhead or circuit breaker are passed on so the caller can answer
+     * 429/503 instead of an empty result that looks like "no match".
+     */
+    private static boolean isDegradable(final Throwable error) {
+        return !(error instanceof VendorRateLimitException || error instanceof VendorUnavailableException);
+    }
+
+    /**
+     * Streams the rows of a raw grid response through the vendor parser without
+     * building a {@link JsonNode} tree. A malformed document ends the stream after
+     * the rows read so far; cancellation, e.g. by a downstream {@code take}, stops
+     * the parser at the next row.
+     *
+     * @param operation kind of call, for the {@link VendorMetrics} tags
+     * @param body      raw JSON body, e.g. from {@link #getBytesAsync(VendorOperation, URI)}
+     * @return the parsed rows in document order
+     */
+    protected Flux<Map<String, Object>> parseRows(final VendorOperation operation, final byte[] body) {
+        if (body.length == 0) {
+            return Flux.empty();
+        }
+        return Flux.create(sink -> {
+            VendorMetrics metrics = transport.getMetrics();
+            int[] count = new int[1];
+            long start = System.nanoTime();
+            try (JsonParser jp = mapper.createParser(body)) {
+                parser.parse(jp, row -> {
+                    if (sink.isCancelled()) {
+                        throw ParseCancelled.INSTANCE;
+                    }
+                    count[0]++;
+                    sink.next(row);
+                });
+            } catch (ParseCancelled ex) {
+                log.debug("Stopped parsing {} after {} rows: cancelled", operation, count[0]);
+            } catch (IOException ex) {
+                log.warn("JSON parse error: {}", ex.getMessage());
+            }
+            metrics.recordParse(operation, VendorMetrics.STAGE_GRID, System.nanoTime() - start);
+            metrics.recordRows(operation, count[0]);
+            sink.complete();
+        });
+    }
+
+    /**
+     * Unwinds {@link JsonGridParser#parse(JsonParser, java.util.function.Consumer)}
+     * once the subscriber of {@link #parseRows(VendorOperation, byte[])} is gone.
+     */
+    private static final class ParseCancelled extends RuntimeException {
+
+        private static final ParseCancelled INSTANCE = new ParseCancelled();
+
+        private ParseCancelled() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Extracts the rows of a decoded grid response with the vendor parser,
+     * recording parse time and row count.
+     *
+     * @param operation kind of call, for the {@link VendorMetrics} tags
+     * @param node      decoded response (or the section of it holding the grid)
+     * @return the parsed rows
+     */
+    protected List<Map<String, Object>> parseGrid(final VendorOperation operation, final JsonNode node) {
+        VendorMetrics metrics = transport.getMetrics();
+        List<Map<String, Object>> rows = metrics.timeParse(operation, VendorMetrics.STAGE_GRID,
+                () -> parser.parse(node));
+        metrics.recordRows(operation, rows.size());
+        return rows;
+    }
+
+    protected JsonNode safePost(final VendorOperation operation,
+                                final URI uri,
+                                final MultiValueMap<String, String> form) {
         try {
-            return webClient.post()
-                    .uri(uri)
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(form))
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .publishOn(Schedulers.boundedElastic())
-                    .map(this::toJson)
-                    .elapsed()                                           // Mono<Tuple2<Long,JsonNode>>
-                    .map(Tuple2::getT2)                               // back to Mono<JsonNode>
-                    .timeout(HTTP_TIMEOUT)
-                    // graceful degradation
-                    .onErrorResume(e -> {
-                        log.warn("POST Resource {} failed: {}", uri.getPath(), e.toString());
-                        return Mono.just(mapper.createObjectNode());
-                    })
-                    .block();
+            return postAsync(operation, uri, form).contextWrite(LoadFailures::inherit).block();
+        } catch (VendorRateLimitException | VendorUnavailableException ex) {
+            throw ex;
         } catch (Exception ex) {            // protects .block() interruption etc.
             log.warn("safePost failed for {}: {}", uri, ex.toString());
             return mapper.createObjectNode();
         }
     }
 
-    protected JsonNode postJson(final URI uri, final ObjectNode body) {
-        return webClient.post()
-                .uri(uri)                    // https://www.kemet.com/en/us/search.products.json
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON)
-                // a couple of real-browser headers keeps Akamai/CDN quiet
-                .header("Origin", "https://www.kemet.com")
-                .header("Referer", "https://www.kemet.com/en/us")
-                .header("User-Agent",
-                        "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0 Safari/537.36")
-                .bodyValue(body)
-                .retrieve()
-                .bodyToMono(JsonNode.class)
-                .block(HTTP_TIMEOUT);
+    /**
+     * Non-blocking variant of {@link #safePost(VendorOperation, URI, MultiValueMap)}:
+     * posts the URL-encoded form and emits the decoded JSON body, degrading to an
+     * empty {@link ObjectNode} on any error except a {@link VendorRateLimitException}
+     * or a {@link VendorUnavailableException}. Concurrent calls with the same URI and
+     * form share one upstream request.
+     *
+     * @param operation kind of call, for the {@link VendorMetrics} tags
+     * @param uri       absolute request URI
+     * @param form      form fields to send as {@code application/x-www-form-urlencoded}
+     * @return a {@link Mono} emitting exactly one {@link JsonNode}
+     */
+    protected Mono<JsonNode> postAsync(final VendorOperation operation,
+                                       final URI uri,
+                                       final MultiValueMap<String, String> form) {
+        return transport.getSingleFlight().execute("POST " + uri + " " + form, () -> transport.getResilience()
+                .protect(webClient.post()
+                        .uri(uri)
+                        .attribute(VendorMetrics.OPERATION_ATTRIBUTE, operation)
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .body(BodyInserters.fromFormData(form))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .retrieve()
+                        .bodyToMono(byte[].class)
+                        .timeout(HTTP_TIMEOUT))
+                        .map(bytes -> toJson(operation, bytes))
+                        .defaultIfEmpty(mapper.createObjectNode()))
+                // graceful degradation per subscriber; saturation and an open breaker are reported to the caller
+                .onErrorResume(VendorSearchEngine::isDegradable, e -> {
+                    log.warn("POST Resource {} failed: {}", uri.getPath(), e.toString());
+                    return LoadFailures.record().thenReturn(mapper.createObjectNode());
+                });
+    }
+
+    protected JsonNode postJson(final VendorOperation operation, final URI uri, final ObjectNode body) {
+        return postJsonAsync(operation, uri, body).block(HTTP_TIMEOUT);
+    }
+
+    /**
+     * Non-blocking variant of {@link #postJson(VendorOperation, URI, ObjectNode)}.
+     * Unlike the form/GET helpers, errors are propagated to the subscriber.
+     *
+     * @param operation kind of call, for the {@link VendorMetrics} tags
+     * @param uri       absolute request URI
+     * @param body      JSON request body
+     * @return a {@link Mono} emitting the decoded JSON response
+     */
+    protected Mono<JsonNode> postJsonAsync(final VendorOperation operation, final URI uri, final ObjectNode body) {
+        return transport.getSingleFlight().execute("POST " + uri + " " + body, () -> transport.getResilience()
+                .protect(webClient.post()
+                        .uri(uri)                    // https://www.kemet.com/en/us/search.products.json
+                        .attribute(VendorMetrics.OPERATION_ATTRIBUTE, operation)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        // a couple of real-browser headers keeps Akamai/CDN quiet
+                        .header("Origin", "https://www.kemet.com")
+                        .header("Referer", "https://www.kemet.com/en/us")
+                        .header("User-Agent",
+                                "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0 Safari/537.36")
+                        .bodyValue(body)
+                        .retrieve()
+                        .bodyToMono(byte[].class)
+                        .<JsonNode>handle((bytes, sink) -> {
+                            long start = System.nanoTime();
+                            try {
+                                sink.next(mapper.readTree(bytes));
+                            } catch (IOException ex) {
+                                sink.error(ex);
+                            } finally {
+                                transport.getMetrics().recordParse(operation, VendorMetrics.STAGE_JSON,
+                                        System.nanoTime() - start);
+                            }
+                        })
+                        .timeout(HTTP_TIMEOUT)));
+    }
+
+    /**
+     * Rows per page for a paged query returning at most {@code maxResults} rows:
+     * the whole result when it fits one page, otherwise the vendor's
+     * {@code max-page-size}.
+     *
+     * @param maxResults most rows the caller wants
+     * @return the page size to request
+     */
+    protected int pageSizeFor(final int maxResults) {
+        Integer max = getCfg().getMaxPageSize();
+        return Math.max(1, Math.min(maxResults, max != null ? max : DEFAULT_MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Fetches the pages of a paged query, up to {@code maxResults} rows, and emits
+     * their content in page order.
+     *
+     * <p>The first page is fetched alone. When it reports the total, the remaining
+     * pages are requested together – at most {@code page-concurrency} at a time,
+     * each still taking a rate-limit permit – and emitted in order as they complete,
+     * so a large query costs about two page round-trips instead of one per page.
+     * A first page shorter than {@code pageSize} while more rows exist means the
+     * vendor capped the page size; the remaining pages are then requested with,
+     * and counted by, the capped size so that their offsets line up.
+     * Without a total the pages are walked one at a time until a short page.</p>
+     *
+     * @param maxResults most rows the caller wants
+     * @param pageSize   rows requested per page, see {@link #pageSizeFor(int)}
+     * @param fetchPage  fetches a 1-based page of the given size
+     * @param <T>        page content type
+     * @return the content of each fetched page, in page order
+     */
+    protected <T> Flux<T> fetchPages(final int maxResults,
+                                     final int pageSize,
+                                     final PageFetcher<T> fetchPage) {
+        return fetchPage.fetch(1, pageSize).flatMapMany(first -> {
+            Flux<T> head = Flux.just(first.content());
+            if (first.size() == 0) {
+                return head;
+            }
+            if (first.total() == VendorPage.UNKNOWN_TOTAL) {
+                int maxPages = Math.ceilDiv(maxResults, pageSize);
+                if (first.size() < pageSize || maxPages <= 1) {
+                    return head;
+                }
+                return head.concatWith(Flux.range(2, maxPages - 1)
+                        .concatMap(page -> fetchPage.fetch(page, pageSize))
+                        .takeUntil(page -> page.size() < pageSize)
+                        .map(VendorPage::content));
+            }
+            int perPage = first.size() < pageSize && first.total() > first.size() ? first.size() : pageSize;
+            int pages = Math.min(Math.ceilDiv(maxResults, perPage), Math.ceilDiv(first.total(), perPage));
+            if (pages <= 1) {
+                return head;
+            }
+            return head.concatWith(Flux.range(2, pages - 1)
+                    .flatMapSequential(page -> fetchPage.fetch(page, perPage).map(VendorPage::content),
+                            Math.max(1, getCfg().getPageConcurrency())));
+        });
+    }
+
+    /**
+     * Reads the total number of matches from a decoded response.
+     *
+     * @param root    decoded response
+     * @param pointer JSON-Pointer to the total, e.g. {@code /total}
+     * @return the total, or {@link VendorPage#UNKNOWN_TOTAL} when absent or not a number
+     */
+    protected static int readTotal(final JsonNode root, final String pointer) {
+        JsonNode total = root.at(pointer);
+        if (total.isNumber()) {
+            return total.intValue();
+        }
+        return total.isTextual() ? parseTotal(total.asText()) : VendorPage.UNKNOWN_TOTAL;
+    }
+
+    /**
+     * Reads the total number of matches from a raw response, scanning tokens
+     * only up to the value at {@code pointer}.
+     *
+     * @param body    raw JSON body
+     * @param pointer JSON-Pointer to the total, e.g. {@code /Result/data/count}
+     * @return the total, or {@link VendorPage#UNKNOWN_TOTAL} when absent or not a number
+     */
+    protected int readTotal(final byte[] body, final String pointer) {
+        if (body.length == 0) {
+            return VendorPage.UNKNOWN_TOTAL;
+        }
+        try (JsonParser jp = new FilteringParserDelegate(mapper.createParser(body),
+                new JsonPointerBasedFilter(pointer), TokenFilter.Inclusion.ONLY_INCLUDE_ALL, false)) {
+            JsonToken token = jp.nextToken();
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                return jp.getIntValue();
+            }
+            return token == JsonToken.VALUE_STRING ? parseTotal(jp.getText()) : VendorPage.UNKNOWN_TOTAL;
+        } catch (IOException ex) {
+            log.warn("Cannot read total at {}: {}", pointer, ex.getMessage());
+            return VendorPage.UNKNOWN_TOTAL;
+        }
     }
 
-    private JsonNode toJson(final byte[] bytes) {
+    private static int parseTotal(final String text) {
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (NumberFormatException ex) {
+            return VendorPage.UNKNOWN_TOTAL;
+        }
+    }
+
+    /**
+     * Runs a blocking step (e.g. an LLM call) on the bounded elastic scheduler so
+     * that it never executes on a Netty event-loop thread.
+     *
+     * @param task the blocking computation
+     * @param <T>  result type
+     * @return a {@link Mono} emitting the task result, or empty when it returns {@code null}
+     */
+    protected static <T> Mono<T> offload(final Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private JsonNode toJson(final VendorOperation operation, final byte[] bytes) {
+        long start = System.nanoTime();
         try {
             return mapper.readTree(bytes);
         } catch (IOException ex) {
             log.warn("JSON parse error: {}", ex.getMessage());
             return mapper.createObjectNode();
+        } finally {
+            transport.getMetrics().recordParse(operation, VendorMetrics.STAGE_JSON, System.nanoTime() - start);
         }
     }
 
     private WebClient buildWebClient(final WebClient.Builder builder) {
-        // Connection pooling
-        ConnectionProvider pool = ConnectionProvider.builder("vendor-pool")
-                .maxConnections(MAX_CONNECTIONS)
-                .pendingAcquireTimeout(POOL_ACQUIRE_DELAY)
-                .build();
-
-        // Build the Reactor-Netty HttpClient
-        HttpClient httpClient = HttpClient.create(pool)
-                .compress(true)
-                .protocol(HttpProtocol.H2, HttpProtocol.HTTP11) // HTTP/2 with HTTP/1.1 fallback
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) CONNECT_TIMEOUT.toMillis())
-
-                .responseTimeout(RESPONSE_TIMEOUT)
-                .wiretap("reactor.netty.http.client.HttpClient",
-                        LogLevel.DEBUG,
-                        AdvancedByteBufFormat.TEXTUAL)
-                .compress(true);
-
-        // Eagerly initialize the pipeline (DNS, SSL, codecs, HTTP/2 ALPN, etc.)
-        httpClient.warmup().block();
-
-        // Build WebClient
-        return builder
-                .clientConnector(new ReactorClientHttpConnector(httpClient))
+        // Build WebClient on a copy so the shared builder bean is not mutated
+        return builder.clone()
+                .clientConnector(new ReactorClientHttpConnector(transport.getHttpClient()))
+                .filter(transport.getRateLimiter())                // per-host token bucket
                 .filters(f -> f.add(saveCookies()))               // ⬅️ capture cookies
                 .defaultHeaders(h -> {
                     h.set(HttpHeaders.ACCEPT, "application/json, text/plain, */*");
@@ -204,6 +532,8 @@ public abstract class VendorSearchEngine {
                             .build();
                     return next.exchange(mutated);
                 })
+                .filter(transport.getConcurrencyLimiter())        // adaptive in-flight limit
+                .filter(transport.getMetrics())                   // innermost: times the exchange itself
                 .build();
     }
 
@@ -228,9 +558,9 @@ public abstract class VendorSearchEngine {
     }
 
 
-    protected URI buildUri(@NonNull final String base,
-                           @Nullable final String path,
-                           @Nullable final MultiValueMap<String, String> q) {
+    protected static URI buildUri(@NonNull final String base,
+                                  @Nullable final String path,
+                                  @Nullable final MultiValueMap<String, String> q) {
 
         UriComponentsBuilder b = UriComponentsBuilder.fromUriString(base);
 
@@ -244,14 +574,16 @@ public abstract class VendorSearchEngine {
         return b.build(false).toUri();   // keep already‑encoded ‘|’ etc.
     }
 
+    /**
+     * Category of the longest configured {@code categories} prefix of a part number.
+     *
+     * @param partNo the part number, any case
+     * @return the mapped {@code cate}, or the vendor's {@code default-cate}
+     * @throws NoSuchElementException if nothing matches and no default is configured
+     */
     public String cateFromPartNo(@Nullable final String partNo) {
 
-        if (StringUtils.isBlank(partNo) || partNo.length() < PARTNO_PREFIX_LENGTH) {
-            return defaultCateOrFail();
-        }
-
-        String prefix = partNo.substring(0, PARTNO_PREFIX_LENGTH).toUpperCase(Locale.ROOT);
-        String cate = getCfg().getCategories().get(prefix);
+        String cate = StringUtils.isBlank(partNo) ? null : categoryPrefixes.longestPrefixOf(partNo.trim());
 
         return cate != null ? cate : defaultCateOrFail();
     }
@@ -284,19 +616,30 @@ public abstract class VendorSearchEngine {
         );
     }
 
+    /**
+     * Cross-reference category of the longest configured {@code cross-ref-categories}
+     * prefix of a competitor part number, ignoring punctuation and case.
+     *
+     * @param competitorPn the competitor part number
+     * @return the mapped {@code cate}, or the vendor's {@code cross-ref-default-cate}
+     */
     public String cateForCrossRef(final String competitorPn) {
 
-        String sanitized = competitorPn.replaceAll("[^A-Z0-9]", "");
-        String prefix = sanitized.length() >= PARTNO_PREFIX_LENGTH
-                ? sanitized.substring(0, PARTNO_PREFIX_LENGTH).toUpperCase(Locale.ROOT)
-                : sanitized.toUpperCase(Locale.ROOT);
-
-        Map<String, String> xref = getCfg().getCrossRefCategories();
-        String cate = (xref != null) ? xref.get(prefix) : null;
+        String sanitized = competitorPn.toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]", "");
+        String cate = crossRefPrefixes.longestPrefixOf(sanitized);
 
         return (cate != null ? cate : getCfg().getCrossRefDefaultCate());
     }
 
+    private static PrefixTrie<String> prefixTrie(@Nullable final Map<String, String> prefixes) {
+        if (prefixes == null || prefixes.isEmpty()) {
+            return PrefixTrie.empty();
+        }
+        PrefixTrie.Builder<String> builder = PrefixTrie.builder();
+        prefixes.forEach(builder::put);
+        return builder.build();
+    }
+
 
     private String defaultCateOrFail() {
         String def = getCfg().getDefaultCate();
@@ -307,4 +650,20 @@ public abstract class VendorSearchEngine {
         throw new NoSuchElementException("No cate mapping/default for vendor "
                 + getCfg().getBaseUrl());
     }
+
+    /**
+     * Fetches one page for {@link #fetchPages(int, int, PageFetcher)}.
+     *
+     * @param <T> page content type
+     */
+    @FunctionalInterface
+    protected interface PageFetcher<T> {
+
+        /**
+         * @param page 1-based page number
+         * @param size rows to request per page
+         * @return the page
+         */
+        Mono<VendorPage<T>> fetch(int page, int size);
+    }
 }
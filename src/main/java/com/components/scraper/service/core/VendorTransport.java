@@ -0,0 +1,110 @@
+package com.components.scraper.service.core;
+
+import lombok.Getter;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * The network layer shared by every {@link VendorSearchEngine} that talks to
+ * the same vendor host.
+ *
+ * <p>One instance exists per {@code base-url} (see {@link VendorTransportRegistry}),
+ * so the MPN, parametric and cross-reference beans of a vendor reuse the same
+ * warm connections, TLS sessions and HTTP/2 streams instead of each opening
+ * their own pool. The {@link TokenBucketRateLimiter} lives here as well so that
+ * {@code rate-limit} applies to the host as a whole, not to each bean; the same
+ * goes for the {@link AdaptiveConcurrencyLimiter} and {@code concurrency}.</p>
+ */
+@Getter
+public final class VendorTransport {
+
+    /**
+     * Vendor identifier that first registered the host, used for pool naming and logging.
+     */
+    private final String vendor;
+
+    /**
+     * Base URL the transport was created for.
+     */
+    private final String baseUrl;
+
+    /**
+     * Connection pool backing {@link #httpClient}.
+     */
+    private final ConnectionProvider connectionProvider;
+
+    /**
+     * Configured Reactor-Netty client bound to {@link #connectionProvider}.
+     */
+    private final HttpClient httpClient;
+
+    /**
+     * Client-side rate limiter shared by every request to the host.
+     */
+    private final TokenBucketRateLimiter rateLimiter;
+
+    /**
+     * Deduplicates identical in-flight calls across all engines of the host.
+     */
+    private final SingleFlight singleFlight;
+
+    /**
+     * Adaptive cap on requests in flight to the host.
+     */
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * Call, byte and parse meters for the host; the innermost {@code WebClient} filter.
+     */
+    private final VendorMetrics metrics;
+
+    /**
+     * Hedging of slow GETs, driven by the host's observed latencies.
+     */
+    private final HedgingPolicy hedging;
+
+    /**
+     * Circuit breaker and bulkhead around every call to the host.
+     */
+    private final VendorResilience resilience;
+
+    VendorTransport(final String vendor,
+                    final String baseUrl,
+                    final ConnectionProvider connectionProvider,
+                    final HttpClient httpClient,
+                    final TokenBucketRateLimiter rateLimiter,
+                    final SingleFlight singleFlight,
+                    final AdaptiveConcurrencyLimiter concurrencyLimiter,
+                    final VendorMetrics metrics,
+                    final HedgingPolicy hedging,
+                    final VendorResilience resilience) {
+        this.vendor = vendor;
+        this.baseUrl = baseUrl;
+        this.connectionProvider = connectionProvider;
+        this.httpClient = httpClient;
+        this.rateLimiter = rateLimiter;
+        this.singleFlight = singleFlight;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.metrics = metrics;
+        this.hedging = hedging;
+        this.resilience = resilience;
+    }
+
+    /**
+     * Initializes the event loop, DNS resolver, SSL context and codecs of
+     * {@link #httpClient} without sending a request.
+     *
+     * @return completes once the client is initialized
+     */
+    Mono<Void> warmup() {
+        return httpClient.warmup();
+    }
+
+    /**
+     * Closes the pooled connections.
+     */
+    void dispose() {
+        connectionProvider.dispose();
+    }
+}
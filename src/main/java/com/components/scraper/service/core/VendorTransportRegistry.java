@@ -0,0 +1,133 @@
+package com.components.scraper.service.core;
+
+import com.components.scraper.config.VendorCfg;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.logging.LogLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.transport.logging.AdvancedByteBufFormat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out one {@link VendorTransport} per vendor host.
+ *
+ * <p>Transports are keyed by {@link VendorCfg#getBaseUrl()}; the pool settings
+ * come from the {@code pool} block of the first vendor configuration that
+ * registers the host, as do the {@code rate-limit}, {@code hedge}, {@code concurrency},
+ * {@code circuit-breaker} and {@code bulkhead} settings:</p>
+ * <pre>
+ * vendors:
+ *   configs:
+ *     murata:
+ *       rate-limit:
+ *         permits-per-second: 3
+ *         burst: 5
+ *         max-wait: 5s
+ *         max-queue: 100
+ *       pool:
+ *         max-connections: 50
+ *         pending-acquire-timeout: 2s
+ *         max-idle-time: 30s
+ *         max-life-time: 5m
+ *         eviction-interval: 15s
+ *       hedge:
+ *         enabled: false
+ *         quantile: 0.95
+ *         max-ratio: 0.1
+ *       circuit-breaker:
+ *         failure-rate-threshold: 50
+ *         wait-duration-in-open-state: 30s
+ *       bulkhead:
+ *         max-concurrent-calls: 100
+ * </pre>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VendorTransportRegistry implements DisposableBean {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(20);
+
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(20);
+
+    /**
+     * Registry receiving the rate-limiter, single-flight and call meters.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Transports keyed by vendor base URL.
+     */
+    private final Map<String, VendorTransport> transports = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the transport for the vendor's host, creating it on first use.
+     *
+     * @param cfg vendor configuration; its {@code base-url} selects the transport
+     * @return the shared transport for that host
+     */
+    public VendorTransport transportFor(@NonNull final VendorCfg cfg) {
+        VendorTransport transport = transports.computeIfAbsent(cfg.getBaseUrl(), url -> create(cfg));
+        if (cfg.getName() != null && !cfg.getName().equals(transport.getVendor())) {
+            log.debug("Vendor '{}' shares the '{}' transport for {}",
+                    cfg.getName(), transport.getVendor(), transport.getBaseUrl());
+        }
+        return transport;
+    }
+
+    private VendorTransport create(final VendorCfg cfg) {
+        String vendor = cfg.getName() != null ? cfg.getName() : cfg.getBaseUrl();
+        VendorCfg.Pool p = cfg.getPool();
+
+        // Connection pooling
+        ConnectionProvider pool = ConnectionProvider.builder("vendor-" + vendor)
+                .maxConnections(p.getMaxConnections())
+                .pendingAcquireTimeout(p.getPendingAcquireTimeout())
+                .maxIdleTime(p.getMaxIdleTime())
+                .maxLifeTime(p.getMaxLifeTime())
+                .evictInBackground(p.getEvictionInterval())
+                .metrics(true)      // pool gauges and pending-acquire time, tagged name=vendor-<vendor>
+                .build();
+
+        // Build the Reactor-Netty HttpClient
+        HttpClient httpClient = HttpClient.create(pool)
+                .compress(true)
+                .protocol(HttpProtocol.H2, HttpProtocol.HTTP11) // HTTP/2 with HTTP/1.1 fallback
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) CONNECT_TIMEOUT.toMillis())
+                .responseTimeout(RESPONSE_TIMEOUT)
+                .wiretap("reactor.netty.http.client.HttpClient",
+                        LogLevel.DEBUG,
+                        AdvancedByteBufFormat.TEXTUAL);
+
+        // The pipeline (DNS, SSL, codecs, HTTP/2 ALPN, etc.) is initialized by VendorWarmup after start-up
+
+        log.info("Created transport 'vendor-{}' for {} (max {} connections)",
+                vendor, cfg.getBaseUrl(), p.getMaxConnections());
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(vendor, cfg.getRateLimit(), meterRegistry);
+        AdaptiveConcurrencyLimiter concurrency = new AdaptiveConcurrencyLimiter(vendor, cfg.getConcurrency(),
+                p.getMaxConnections(), meterRegistry);
+        return new VendorTransport(vendor, cfg.getBaseUrl(), pool, httpClient, limiter,
+                new SingleFlight(vendor, meterRegistry), concurrency, new VendorMetrics(vendor, meterRegistry),
+                new HedgingPolicy(vendor, cfg.getHedge(), meterRegistry),
+                new VendorResilience(vendor, cfg.getCircuitBreaker(), cfg.getBulkhead(), meterRegistry));
+    }
+
+    /**
+     * Closes every pooled connection on shutdown.
+     */
+    @Override
+    public void destroy() {
+        transports.values().forEach(VendorTransport::dispose);
+        transports.clear();
+    }
+}
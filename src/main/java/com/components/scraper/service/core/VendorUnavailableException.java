@@ -0,0 +1,51 @@
+package com.components.scraper.service.core;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.time.Duration;
+
+/**
+ * Raised without contacting the vendor when its circuit breaker is open or its
+ * bulkhead is full (see {@link VendorResilience}).
+ *
+ * <p>Surfaces to API clients as HTTP 503 unless a stale cached result can be
+ * served instead, in which case the response carries the
+ * {@value Degradation#HEADER} header.</p>
+ */
+@Getter
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class VendorUnavailableException extends RuntimeException {
+
+    /**
+     * Vendor whose calls are being refused.
+     */
+    private final String vendor;
+
+    /**
+     * Short cause, e.g. {@code circuit open}.
+     */
+    private final String reason;
+
+    /**
+     * Earliest time after which a retry may succeed.
+     */
+    private final Duration retryAfter;
+
+    /**
+     * @param vendor     vendor identifier
+     * @param reason     short human-readable cause
+     * @param retryAfter estimated wait until calls are let through again
+     * @param cause      the Resilience4j rejection
+     */
+    public VendorUnavailableException(final String vendor,
+                                      final String reason,
+                                      final Duration retryAfter,
+                                      final Throwable cause) {
+        super("Vendor " + vendor + " unavailable: " + reason, cause);
+        this.vendor = vendor;
+        this.reason = reason;
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,142 @@
+package com.components.scraper.service.core;
+
+import com.components.scraper.config.ScraperProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Warms up every vendor host in the background once the application context is
+ * refreshed, so start-up never waits on the network.
+ *
+ * <p>Per {@link VendorTransport}: the Reactor-Netty client is initialized
+ * (event loop, DNS resolver, SSL context), then
+ * {@link VendorSearchEngine#warmUp()} runs for every engine on that host, e.g.
+ * the TDK entry-page fetch. Hosts warm up in parallel, each bounded by
+ * {@code scraper.warmup.timeout}.</p>
+ *
+ * <p>As the {@code vendorWarmup} health indicator it reports
+ * {@code OUT_OF_SERVICE} until each host has finished, failed or timed out, and
+ * {@code UP} afterwards, with one detail per host. Include it in the readiness
+ * group ({@code management.endpoint.health.group.readiness.include}) so that
+ * traffic is routed only to warm instances; liveness is not affected.</p>
+ */
+@Slf4j
+@Component
+public class VendorWarmup implements HealthIndicator, ApplicationListener<ContextRefreshedEvent>, DisposableBean {
+
+    /**
+     * Warm-up progress of one host.
+     */
+    enum State {
+        PENDING,
+        READY,
+        TIMED_OUT,
+        FAILED
+    }
+
+    private final ObjectProvider<VendorSearchEngine> engines;
+
+    private final ScraperProperties.Warmup cfg;
+
+    /**
+     * Progress keyed by the vendor that registered the host.
+     */
+    private final Map<String, State> states = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private volatile Disposable running;
+
+    /**
+     * @param engines every vendor engine bean
+     * @param props   scraper settings holding {@code scraper.warmup.*}
+     */
+    public VendorWarmup(final ObjectProvider<VendorSearchEngine> engines, final ScraperProperties props) {
+        this.engines = engines;
+        this.cfg = props.getWarmup();
+    }
+
+    /**
+     * Starts the warm-up on the first context refresh and returns immediately.
+     *
+     * @param event the refresh event
+     */
+    @Override
+    public void onApplicationEvent(@NonNull final ContextRefreshedEvent event) {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        if (!cfg.isEnabled()) {
+            log.info("Vendor warm-up disabled");
+            return;
+        }
+        Map<VendorTransport, List<VendorSearchEngine>> byHost = new LinkedHashMap<>();
+        engines.orderedStream().forEach(engine ->
+                byHost.computeIfAbsent(engine.getTransport(), t -> new ArrayList<>()).add(engine));
+        byHost.keySet().forEach(transport -> states.put(transport.getVendor(), State.PENDING));
+
+        long start = System.nanoTime();
+        running = Flux.fromIterable(byHost.entrySet())
+                .flatMap(e -> warmUp(e.getKey(), e.getValue()))
+                .subscribeOn(Schedulers.boundedElastic())      // client initialization may block briefly
+                .subscribe(null, null, () -> log.info("Vendor warm-up done in {} ms: {}",
+                        Duration.ofNanos(System.nanoTime() - start).toMillis(), states));
+    }
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new TreeMap<>();
+        states.forEach((vendor, state) -> details.put(vendor, state.name().toLowerCase(Locale.ROOT)));
+        boolean pending = !started.get() || states.containsValue(State.PENDING);
+        return (pending ? Health.outOfService() : Health.up()).withDetails(details).build();
+    }
+
+    /**
+     * Stops a warm-up still running at shutdown.
+     */
+    @Override
+    public void destroy() {
+        Disposable current = running;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    private Mono<Void> warmUp(final VendorTransport transport, final List<VendorSearchEngine> hostEngines) {
+        String vendor = transport.getVendor();
+        return transport.warmup()
+                .then(Flux.fromIterable(hostEngines)
+                        .flatMap(VendorSearchEngine::warmUp)
+                        .then())
+                .timeout(cfg.getTimeout())
+                .doOnSuccess(v -> states.put(vendor, State.READY))
+                .onErrorResume(e -> {
+                    boolean timedOut = e instanceof TimeoutException;
+                    log.warn("Warm-up of {} {}: {}", vendor, timedOut ? "timed out" : "failed", e.toString());
+                    states.put(vendor, timedOut ? State.TIMED_OUT : State.FAILED);
+                    return Mono.empty();
+                });
+    }
+}
@@ -3,9 +3,10 @@ package com.components.scraper.service.kemet;
 import com.components.scraper.ai.LLMHelper;
 import com.components.scraper.config.VendorConfigFactory;
 import com.components.scraper.parser.JsonGridParser;
-import com.components.scraper.service.core.MpnSearchService;
+import com.components.scraper.service.core.ReactiveMpnSearchService;
+import com.components.scraper.service.core.VendorOperation;
 import com.components.scraper.service.core.VendorSearchEngine;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.components.scraper.service.core.VendorTransportRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +14,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.util.List;
@@ -23,7 +25,7 @@ import java.util.Map;
 @ConditionalOnProperty(prefix = "scraper.configs.kemet", name = "enabled",
         havingValue = "true", matchIfMissing = true)
 public class KemetMpnSearchService extends VendorSearchEngine
-        implements MpnSearchService {
+        implements ReactiveMpnSearchService {
 
     /** JSON key used by KEMET that contains the part array. */
     private static final String JSON_KEY_PARTS = "detectedUniqueParts";
@@ -37,6 +39,7 @@ public class KemetMpnSearchService extends VendorSearchEngine
      * @param parser    JSON-grid parser bean qualified as "kemetGridParser"
      * @param factory   factory for loading Kemet vendor configuration
      * @param builder   configured Webclient builder
+     * @param transports registry providing the shared per-host connection pool
      * @param llmHelper LLMHelper to ask ChatGPT for the vendor’s real “cate” code
      * @param om        Object Mapper
      */
@@ -45,10 +48,11 @@ public class KemetMpnSearchService extends VendorSearchEngine
             @Qualifier("kemetGridParser") final JsonGridParser parser,
             final VendorConfigFactory factory,
             final WebClient.Builder builder,
+            final VendorTransportRegistry transports,
             final LLMHelper llmHelper,
             @Qualifier("scraperObjectMapper") final ObjectMapper om
     ) {
-        super(factory.forVendor("kemet"), builder, llmHelper, parser, om);
+        super(factory.forVendor("kemet"), builder, transports, llmHelper, parser, om);
     }
 
     /**
@@ -63,10 +67,10 @@ public class KemetMpnSearchService extends VendorSearchEngine
      * {@inheritDoc}
      */
     @Override
-    public List<Map<String, Object>> searchByMpn(final String mpn) {
+    public Mono<List<Map<String, Object>>> searchByMpnReactive(final String mpn) {
         final String cleaned = (mpn == null) ? "" : mpn.trim();
         if (cleaned.isBlank()) {
-            return List.of();
+            return Mono.just(List.of());
         }
 
         ObjectNode body = getMapper().createObjectNode()
@@ -80,17 +84,9 @@ public class KemetMpnSearchService extends VendorSearchEngine
                 getCfg().getMpnSearchPath(),
                 null);
 
-        // Execute request – measure timings similar to the TDK implementation
-        long t0 = System.nanoTime();
-        final JsonNode rsp = postJson(endpoint, body);
-        long t1 = System.nanoTime();
-
-        final List<Map<String, Object>> rows = getParser().parse(rsp);
-        long t2 = System.nanoTime();
-
-        log.info("KEMET NET={}ms  PARSE={}ms  TOTAL={}ms",
-                (t1 - t0) / MILLISECONDS_VALUE, (t2 - t1) / MILLISECONDS_VALUE, (t2 - t0) / MILLISECONDS_VALUE);
-        return rows;
+        // Execute request – network and parse timings go to the vendor.* meters
+        return postJsonAsync(VendorOperation.MPN, endpoint, body)
+                .map(rsp -> parseGrid(VendorOperation.MPN, rsp));
     }
 
 }
@@ -0,0 +1,217 @@
+package com.components.scraper.service.murata;
+
+import com.components.scraper.ai.LLMHelper;
+import com.components.scraper.config.MurataPathList;
+import com.components.scraper.config.ScraperProperties;
+import com.components.scraper.config.VendorConfigFactory;
+import com.components.scraper.service.core.PrefixTrie;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Infers a Murata {@code cate} from the part number alone, so the LLM is only
+ * asked about part numbers the local rules are unsure of.
+ *
+ * <p>Guesses come from a longest-prefix {@link PrefixTrie} over three sources,
+ * each with its own confidence:</p>
+ * <ol>
+ *   <li><b>Configured</b> – {@code vendors.configs.murata.categories} in
+ *       {@code vendors.yml} ({@value #CONFIGURED_CONFIDENCE}).</li>
+ *   <li><b>Grammar</b> – the series {@code prefixes} in {@code murata-categories.yml}
+ *       ({@value #GRAMMAR_CONFIDENCE}); a prefix already configured in
+ *       {@code vendors.yml} keeps that mapping.</li>
+ *   <li><b>Learned</b> – prefixes reported by {@link MurataCategoryDiscovery}
+ *       from site-search answers, more confident with each consistent
+ *       observation (up to {@value #LEARNED_MAX_CONFIDENCE}), but below the default
+ *       min-confidence until discovery itself trusts the prefix; ambiguous prefixes
+ *       are dropped. Static prefixes are never overridden.</li>
+ * </ol>
+ *
+ * <p>{@link #cate(String)} answers locally when the best guess reaches
+ * {@code scraper.cate-classifier.min-confidence}, asks the LLM otherwise and
+ * falls back to a low-confidence guess if the LLM has no valid answer.</p>
+ *
+ * <p>Counters: {@code murata.cate.classifier{result=local|llm}}.</p>
+ */
+@Slf4j
+@Component
+public class LocalCateClassifier {
+
+    static final double CONFIGURED_CONFIDENCE = 0.95;
+
+    static final double GRAMMAR_CONFIDENCE = 0.9;
+
+    static final double LEARNED_MAX_CONFIDENCE = 0.85;
+
+    private static final double LEARNED_BASE_CONFIDENCE = 0.4;
+
+    /** Reaches the default min-confidence (0.8) once discovery trusts the prefix. */
+    private static final double LEARNED_STEP_CONFIDENCE =
+            (0.8 - LEARNED_BASE_CONFIDENCE) / MurataCategoryDiscovery.MIN_PREFIX_OBSERVATIONS;
+
+    /**
+     * Where a guess came from.
+     */
+    public enum Source {
+        CONFIGURED,
+        GRAMMAR,
+        LEARNED
+    }
+
+    /**
+     * A local category guess.
+     *
+     * @param cate       the category code
+     * @param confidence 0–1
+     * @param source     rule set the matching prefix came from
+     */
+    public record CateGuess(String cate, double confidence, Source source) {
+    }
+
+    private final double minConfidence;
+
+    @Nullable
+    private final LLMHelper llmHelper;
+
+    /** Configured and grammar prefixes, upper-cased, in precedence order. */
+    private final Map<String, CateGuess> staticPrefixes;
+
+    private final Map<String, CateGuess> learnedPrefixes = new ConcurrentHashMap<>();
+
+    private volatile PrefixTrie<CateGuess> trie;
+
+    private final Counter localAnswers;
+
+    private final Counter llmAnswers;
+
+    /**
+     * @param factory   vendor configuration holding the configured Murata prefixes
+     * @param pathList  {@code murata-categories.yml} with the series prefixes
+     * @param discovery site-search discovery reporting learned prefixes
+     * @param llmHelper LLM asked below the confidence threshold; may be {@code null}
+     * @param props     scraper settings holding {@code scraper.cate-classifier.*}
+     * @param registry  meter registry for the answer counters
+     */
+    public LocalCateClassifier(final VendorConfigFactory factory,
+                               final MurataPathList pathList,
+                               final MurataCategoryDiscovery discovery,
+                               @Nullable final LLMHelper llmHelper,
+                               final ScraperProperties props,
+                               final MeterRegistry registry) {
+        this.minConfidence = props.getCateClassifier().getMinConfidence();
+        this.llmHelper = llmHelper;
+        this.staticPrefixes = staticPrefixes(factory.forVendor("murata").getCategories(), pathList);
+        this.trie = buildTrie();
+        this.localAnswers = counter(registry, "local");
+        this.llmAnswers = counter(registry, "llm");
+        discovery.addProductPrefixListener(this::learned);
+        log.info("Local cate classifier built with {} prefixes", trie.size());
+    }
+
+    /**
+     * Best local guess, without asking anyone.
+     *
+     * @param partNumber the part number as entered
+     * @return the guess of the longest matching prefix, if any
+     */
+    public Optional<CateGuess> classify(@Nullable final String partNumber) {
+        if (partNumber == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(trie.longestPrefixOf(partNumber.trim()));
+    }
+
+    /**
+     * Local guess only if it reaches {@code scraper.cate-classifier.min-confidence}.
+     *
+     * @param partNumber the part number as entered
+     * @return the confidently guessed category, if any
+     */
+    public Optional<String> confidentCate(@Nullable final String partNumber) {
+        return classify(partNumber)
+                .filter(guess -> guess.confidence() >= minConfidence)
+                .map(CateGuess::cate);
+    }
+
+    /**
+     * Category for a part number: the local guess when it is confident enough,
+     * otherwise the LLM's validated answer, otherwise the local guess anyway.
+     *
+     * @param partNumber the part number as entered
+     * @return the category, or an empty {@link Mono} if none is known
+     */
+    public Mono<String> cate(final String partNumber) {
+        Optional<CateGuess> guess = classify(partNumber);
+        if (guess.isPresent() && guess.get().confidence() >= minConfidence) {
+            localAnswers.increment();
+            return Mono.just(guess.get().cate());
+        }
+        Mono<String> fallback = Mono.justOrEmpty(guess.map(CateGuess::cate));
+        if (llmHelper == null || partNumber == null || partNumber.isBlank()) {
+            return fallback;
+        }
+        log.debug("Local cate guess for {} below {} ({}); asking the LLM", partNumber, minConfidence, guess);
+        llmAnswers.increment();
+        return llmHelper.cateAsync(partNumber).switchIfEmpty(fallback);
+    }
+
+    private void learned(final String prefix, @Nullable final String cate, final int observations) {
+        CateGuess updated = cate == null ? null : new CateGuess(cate,
+                Math.min(LEARNED_MAX_CONFIDENCE, LEARNED_BASE_CONFIDENCE + LEARNED_STEP_CONFIDENCE * observations),
+                Source.LEARNED);
+        CateGuess previous = updated == null
+                ? learnedPrefixes.remove(prefix)
+                : learnedPrefixes.put(prefix, updated);
+        if (updated == null ? previous != null : !updated.equals(previous)) {
+            rebuild();
+        }
+    }
+
+    private synchronized void rebuild() {
+        trie = buildTrie();
+    }
+
+    private PrefixTrie<CateGuess> buildTrie() {
+        PrefixTrie.Builder<CateGuess> builder = PrefixTrie.builder();
+        staticPrefixes.forEach(builder::put);
+        learnedPrefixes.forEach(builder::putIfAbsent);
+        return builder.build();
+    }
+
+    private static Map<String, CateGuess> staticPrefixes(@Nullable final Map<String, String> configured,
+                                                         final MurataPathList pathList) {
+        Map<String, CateGuess> prefixes = new LinkedHashMap<>();
+        if (configured != null) {
+            configured.forEach((prefix, cate) -> prefixes.put(prefix.toUpperCase(Locale.ROOT),
+                    new CateGuess(cate, CONFIGURED_CONFIDENCE, Source.CONFIGURED)));
+        }
+        for (MurataPathList.PathMapping mapping : pathList.getPathToCate()) {
+            for (String prefix : mapping.getPrefixes()) {
+                CateGuess kept = prefixes.putIfAbsent(prefix.toUpperCase(Locale.ROOT),
+                        new CateGuess(mapping.getCate(), GRAMMAR_CONFIDENCE, Source.GRAMMAR));
+                if (kept != null && !kept.cate().equals(mapping.getCate())) {
+                    log.warn("Prefix {} maps to '{}' in murata-categories.yml but '{}' is configured; keeping '{}'",
+                            prefix, mapping.getCate(), kept.cate(), kept.cate());
+                }
+            }
+        }
+        return prefixes;
+    }
+
+    private static Counter counter(final MeterRegistry registry, final String result) {
+        return Counter.builder("murata.cate.classifier")
+                .tag("result", result)
+                .description("Murata cate lookups answered locally or sent to the LLM")
+                .register(registry);
+    }
+}
@@ -1,23 +1,46 @@
 package com.components.scraper.service.murata;
 
 import com.components.scraper.config.MurataPathList;
+import com.components.scraper.service.core.PrefixTrie;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-@RequiredArgsConstructor
+/**
+ * Translates a {@code Category/Sub-category} path into a Murata {@code cate}
+ * using the {@code murata-categories.yml} mappings.
+ *
+ * <p>The mappings are compiled once into a case-insensitive {@link PrefixTrie};
+ * the longest mapped path that matches whole {@code /}-separated segments of
+ * the requested path wins, so a deeper path than any mapping still resolves to
+ * its closest mapped ancestor. The first mapping listed for a path is kept.</p>
+ */
 @Service
 @Getter
 public class MurataCateResolver {
 
+    private static final char PATH_SEPARATOR = '/';
+
     private final MurataPathList pathList;
 
-    public String cateFor(String categoryPath) {
-        return pathList.getPathToCate().stream()
-                .filter(m -> m.getPath()
-                        .equalsIgnoreCase(categoryPath))
-                .map(MurataPathList.PathMapping::getCate)
-                .findFirst()
-                .orElse(null);
+    private final PrefixTrie<String> paths;
+
+    /**
+     * @param pathList the bound {@code murata-categories.yml}
+     */
+    public MurataCateResolver(final MurataPathList pathList) {
+        this.pathList = pathList;
+        PrefixTrie.Builder<String> builder = PrefixTrie.builder();
+        for (MurataPathList.PathMapping mapping : pathList.getPathToCate()) {
+            builder.putIfAbsent(mapping.getPath().trim(), mapping.getCate());
+        }
+        this.paths = builder.build();
+    }
+
+    /**
+     * @param categoryPath {@code Category/Sub-category} path, any case
+     * @return the {@code cate} of the longest matching mapped path, or {@code null} if none matches
+     */
+    public String cateFor(final String categoryPath) {
+        return paths.longestPrefixOf(categoryPath, PATH_SEPARATOR);
     }
 }
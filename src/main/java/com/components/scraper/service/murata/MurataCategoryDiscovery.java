@@ -0,0 +1,412 @@
+package com.components.scraper.service.murata;
+
+import com.components.scraper.service.core.VendorSearchEngine;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Shared, memoizing front-end for Murata's site-search category discovery.
+ *
+ * <p>The MPN, parametric and cross-reference services all call
+ * {@code sitesearch.murata.com} just to learn a {@code cate} code that hardly
+ * ever changes. This component answers from three tiers:</p>
+ * <ol>
+ *   <li><b>MPN cache</b> – the parsed site-search answer per normalized MPN.
+ *       One response carries both the product category and the cross-reference
+ *       category, so a lookup by any service warms the others.</li>
+ *   <li><b>Learned prefix</b> – every answer teaches the category of its MPN
+ *       prefix: 3 characters for product categories, {@value #CROSS_REF_PREFIX_LENGTH}
+ *       for cross-reference categories, whose competitor MPNs share short prefixes
+ *       across manufacturers. Once a prefix was seen {@value #MIN_PREFIX_OBSERVATIONS}
+ *       times with the same category, new MPNs with that prefix skip site-search.
+ *       One in {@value #VALIDATION_INTERVAL} such lookups still goes to site-search
+ *       to re-check the prefix, and {@link #recheckCate(String, Supplier)} and
+ *       {@link #recheckCrossRefCate(String, Supplier)} re-check an MPN whose
+ *       learned category found nothing. A prefix that ever maps to two different
+ *       categories is marked ambiguous and never used again.</li>
+ *   <li><b>Site-search</b> – the caller-supplied request; concurrent misses for
+ *       the same MPN share one call.</li>
+ * </ol>
+ *
+ * <p>Empty answers (including degraded error responses) are not cached. Learned
+ * product prefixes are also reported to {@link PrefixListener}s, e.g. the
+ * {@link LocalCateClassifier}.</p>
+ *
+ * <p>Counters: {@code murata.category.discovery{kind=product|crossref,
+ * result=hit|prefix_hit|validation|recheck|miss}}; the MPN cache is also published as the
+ * {@code murata-site-search} cache meters.</p>
+ */
+@Slf4j
+@Component
+public class MurataCategoryDiscovery {
+
+    /**
+     * Number of consistent observations before a learned prefix is trusted.
+     */
+    static final int MIN_PREFIX_OBSERVATIONS = 5;
+
+    /**
+     * Length of the learned cross-reference prefixes.
+     */
+    static final int CROSS_REF_PREFIX_LENGTH = 5;
+
+    /**
+     * Every n-th lookup answered by a learned prefix asks site-search instead.
+     */
+    static final int VALIDATION_INTERVAL = 20;
+
+    private static final int MAX_CACHED_MPNS = 50_000;
+
+    private static final Duration MPN_TTL = Duration.ofDays(7);
+
+    private final AsyncCache<String, SiteSearchHit> byMpn = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_MPNS)
+            .expireAfterWrite(MPN_TTL)
+            .recordStats()
+            .buildAsync();
+
+    private final Kind product;
+
+    private final Kind crossRef;
+
+    /**
+     * @param registry meter registry for the hit/miss counters and cache statistics
+     */
+    public MurataCategoryDiscovery(final MeterRegistry registry) {
+        this.product = new Kind("product", SiteSearchHit::cate, VendorSearchEngine.PARTNO_PREFIX_LENGTH, registry);
+        this.crossRef = new Kind("crossref", SiteSearchHit::crossRefCate, CROSS_REF_PREFIX_LENGTH, registry);
+        CaffeineCacheMetrics.monitor(registry, byMpn.synchronous(), "murata-site-search");
+    }
+
+    /**
+     * Registers a listener for changes of learned product-category prefixes.
+     *
+     * @param listener called after each observation
+     */
+    public void addProductPrefixListener(final PrefixListener listener) {
+        product.listeners.add(listener);
+    }
+
+    /**
+     * Product category ({@code cate}) for a Murata MPN.
+     *
+     * @param mpn        the part number as entered
+     * @param siteSearch performs the site-search request for {@code mpn} on a miss
+     * @return the category code, or an empty {@link Mono} if none could be determined
+     */
+    public Mono<String> cate(final String mpn, final Supplier<Mono<JsonNode>> siteSearch) {
+        return discover(product, mpn, siteSearch);
+    }
+
+    /**
+     * Cross-reference category for a competitor MPN.
+     *
+     * @param mpn        the competitor part number
+     * @param siteSearch performs the site-search request for {@code mpn} on a miss
+     * @return the category code, or an empty {@link Mono} if none could be determined
+     */
+    public Mono<String> crossRefCate(final String mpn, final Supplier<Mono<JsonNode>> siteSearch) {
+        return discover(crossRef, mpn, siteSearch);
+    }
+
+    /**
+     * Whether {@link #cate(String, Supplier)} would have to call site-search for
+     * {@code mpn}, i.e. the MPN is neither cached (or in flight) nor covered by a
+     * learned prefix.
+     *
+     * @param mpn the part number as entered
+     * @return {@code true} if a product-category lookup would go to site-search
+     */
+    public boolean requiresSiteSearch(final String mpn) {
+        String key = normalize(mpn);
+        String prefix = product.prefix(key);
+        if (prefix == null) {
+            return false;
+        }
+        return byMpn.getIfPresent(key) == null && product.learned(prefix) == null;
+    }
+
+    /**
+     * Asks site-search about an MPN whose product category came from a learned
+     * prefix but found no product, e.g. because the prefix is wrong for it. The
+     * answer is cached and fed back into the prefix, which turns ambiguous if it
+     * disagrees.
+     *
+     * @param mpn        the part number as entered
+     * @param siteSearch performs the site-search request for {@code mpn}
+     * @return the site-search category if it differs from the learned one;
+     *         empty if the category did not come from a learned prefix or site-search agrees
+     */
+    public Mono<String> recheckCate(final String mpn, final Supplier<Mono<JsonNode>> siteSearch) {
+        return recheck(product, mpn, siteSearch);
+    }
+
+    /**
+     * Cross-reference counterpart of {@link #recheckCate(String, Supplier)}.
+     *
+     * @param mpn        the competitor part number
+     * @param siteSearch performs the site-search request for {@code mpn}
+     * @return the site-search cross-reference category if it differs from the learned one;
+     *         empty if the category did not come from a learned prefix or site-search agrees
+     */
+    public Mono<String> recheckCrossRefCate(final String mpn, final Supplier<Mono<JsonNode>> siteSearch) {
+        return recheck(crossRef, mpn, siteSearch);
+    }
+
+    private Mono<String> recheck(final Kind kind, final String mpn, final Supplier<Mono<JsonNode>> siteSearch) {
+        String key = normalize(mpn);
+        String prefix = kind.prefix(key);
+        String learned = prefix != null ? kind.learned(prefix) : null;
+        if (learned == null || byMpn.getIfPresent(key) != null) {
+            return Mono.empty();
+        }
+        kind.rechecks.increment();
+        log.debug("Re-checking learned {} cate '{}' of {} with site-search", kind.name, learned, mpn);
+        return Mono.fromFuture(() -> byMpn.get(key, (k, executor) -> load(k, siteSearch)), true)
+                .mapNotNull(kind.field)
+                .filter(cate -> !cate.equals(learned));
+    }
+
+    private Mono<String> discover(final Kind kind, final String mpn, final Supplier<Mono<JsonNode>> siteSearch) {
+        String key = normalize(mpn);
+        if (key.length() < VendorSearchEngine.PARTNO_PREFIX_LENGTH) {
+            return Mono.empty();
+        }
+
+        CompletableFuture<SiteSearchHit> cached = byMpn.getIfPresent(key);
+        if (cached != null) {
+            kind.hits.increment();
+            return Mono.fromFuture(cached, true).mapNotNull(kind.field);
+        }
+
+        String prefix = kind.prefix(key);
+        String learned = prefix != null ? kind.learned(prefix) : null;
+        if (learned != null && !kind.dueForValidation()) {
+            kind.prefixHits.increment();
+            log.debug("Learned {} cate '{}' for prefix {} (MPN {})", kind.name, learned, prefix, mpn);
+            return Mono.just(learned);
+        }
+
+        if (learned != null) {
+            kind.validations.increment();
+            log.debug("Validating learned {} cate '{}' for prefix {} with site-search", kind.name, learned, prefix);
+        } else {
+            kind.misses.increment();
+        }
+        return Mono.fromFuture(() -> byMpn.get(key, (k, executor) -> load(k, siteSearch)), true)
+                .mapNotNull(kind.field);
+    }
+
+    private CompletableFuture<SiteSearchHit> load(final String key, final Supplier<Mono<JsonNode>> siteSearch) {
+        return Mono.defer(siteSearch)
+                .map(resp -> new SiteSearchHit(categoryFrom(resp, key), crossRefCategoryFrom(resp, key)))
+                .filter(SiteSearchHit::isPresent)
+                .doOnNext(hit -> {
+                    product.learn(key, hit.cate());
+                    crossRef.learn(key, hit.crossRefCate());
+                })
+                .toFuture();
+    }
+
+    private String categoryFrom(final JsonNode resp, final String mpn) {
+        JsonNode cats = resp.path("categories");
+        if (cats.isArray() && !cats.isEmpty()) {
+            JsonNode first = cats.get(0);
+            JsonNode children = first.path("children");
+            if (children.isArray() && !children.isEmpty()) {
+                String childCate = children.get(0).path("category_id").asText(null);
+                if (StringUtils.hasText(childCate)) {
+                    log.info("Using child category '{}' for MPN {}", childCate, mpn);
+                    return childCate;
+                }
+            }
+            // no valid child, fall back to parent
+            String parentCate = first.path("category_id").asText(null);
+            if (StringUtils.hasText(parentCate)) {
+                log.info("Using parent category '{}' for MPN {}", parentCate, mpn);
+                return parentCate;
+            }
+        }
+
+        log.debug("Murata site‐search returned no categories for MPN {}", mpn);
+        return null;
+    }
+
+    private String crossRefCategoryFrom(final JsonNode root, final String mpn) {
+        JsonNode xrefArray = root.path("crossreference");
+        if (xrefArray.isArray() && !xrefArray.isEmpty()) {
+            JsonNode first = xrefArray.get(0);
+
+            // look for a child category first
+            JsonNode children = first.path("children");
+            if (children.isArray() && !children.isEmpty()) {
+                String childCate = children.get(0).path("category_id").asText(null);
+                if (StringUtils.hasText(childCate)) {
+                    log.info("Site-search: using child cross-ref cate '{}' for MPN {}", childCate, mpn);
+                    return childCate;
+                }
+            }
+
+            // fallback to the parent’s category_id
+            String parentCate = first.path("category_id").asText(null);
+            if (StringUtils.hasText(parentCate)) {
+                log.info("Site-search: using parent cross-ref cate '{}' for MPN {}", parentCate, mpn);
+                return parentCate;
+            }
+        }
+
+        log.debug("Site-search returned no crossreference entries for MPN {}", mpn);
+        return null;
+    }
+
+    private static String normalize(final String mpn) {
+        return mpn == null ? "" : mpn.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Receives the state of a learned prefix after each observation.
+     */
+    @FunctionalInterface
+    public interface PrefixListener {
+
+        /**
+         * @param prefix       the MPN prefix
+         * @param cate         the category seen for it, or {@code null} once it is ambiguous
+         * @param observations consistent observations so far
+         */
+        void learned(String prefix, @Nullable String cate, int observations);
+    }
+
+    /**
+     * Categories parsed from one site-search response.
+     *
+     * @param cate         product category ({@code categories[0]})
+     * @param crossRefCate cross-reference category ({@code crossreference[0]})
+     */
+    record SiteSearchHit(String cate, String crossRefCate) {
+
+        boolean isPresent() {
+            return cate != null || crossRefCate != null;
+        }
+    }
+
+    /**
+     * Learned prefix state: the category seen so far, how often, and whether it was contradicted.
+     */
+    private record PrefixStats(String cate, int observations, boolean ambiguous) {
+
+        PrefixStats observe(final String seen) {
+            if (ambiguous) {
+                return this;
+            }
+            return cate.equals(seen)
+                    ? new PrefixStats(cate, observations + 1, false)
+                    : new PrefixStats(cate, observations, true);
+        }
+    }
+
+    /**
+     * Per-category-kind prefix table and counters.
+     */
+    private static final class Kind {
+
+        private final String name;
+
+        private final Function<SiteSearchHit, String> field;
+
+        private final int prefixLength;
+
+        private final Map<String, PrefixStats> prefixes = new ConcurrentHashMap<>();
+
+        /** Lookups a learned prefix could answer, for picking the ones to validate. */
+        private final AtomicLong prefixLookups = new AtomicLong();
+
+        private final List<PrefixListener> listeners = new CopyOnWriteArrayList<>();
+
+        private final Counter hits;
+
+        private final Counter prefixHits;
+
+        private final Counter validations;
+
+        private final Counter rechecks;
+
+        private final Counter misses;
+
+        Kind(final String name,
+             final Function<SiteSearchHit, String> field,
+             final int prefixLength,
+             final MeterRegistry registry) {
+            this.name = name;
+            this.field = field;
+            this.prefixLength = prefixLength;
+            this.hits = counter(registry, name, "hit");
+            this.prefixHits = counter(registry, name, "prefix_hit");
+            this.validations = counter(registry, name, "validation");
+            this.rechecks = counter(registry, name, "recheck");
+            this.misses = counter(registry, name, "miss");
+        }
+
+        /**
+         * @return the prefix of a normalized MPN, or {@code null} if the MPN is too short
+         */
+        @Nullable
+        String prefix(final String key) {
+            return key.length() < prefixLength ? null : key.substring(0, prefixLength);
+        }
+
+        boolean dueForValidation() {
+            return prefixLookups.incrementAndGet() % VALIDATION_INTERVAL == 0;
+        }
+
+        String learned(final String prefix) {
+            PrefixStats stats = prefixes.get(prefix);
+            return stats != null && !stats.ambiguous() && stats.observations() >= MIN_PREFIX_OBSERVATIONS
+                    ? stats.cate()
+                    : null;
+        }
+
+        void learn(final String key, final String cate) {
+            String prefix = prefix(key);
+            if (cate == null || prefix == null) {
+                return;
+            }
+            PrefixStats updated = prefixes.merge(prefix, new PrefixStats(cate, 1, false),
+                    (old, fresh) -> old.observe(cate));
+            if (updated.ambiguous() && !updated.cate().equals(cate)) {
+                log.debug("Prefix {} is ambiguous for {} ('{}' vs '{}'); no longer used",
+                        prefix, name, updated.cate(), cate);
+            }
+            String learnedCate = updated.ambiguous() ? null : updated.cate();
+            listeners.forEach(l -> l.learned(prefix, learnedCate, updated.observations()));
+        }
+
+        private static Counter counter(final MeterRegistry registry, final String kind, final String result) {
+            return Counter.builder("murata.category.discovery")
+                    .tag("kind", kind)
+                    .tag("result", result)
+                    .description("Murata category lookups by source")
+                    .register(registry);
+        }
+    }
+}
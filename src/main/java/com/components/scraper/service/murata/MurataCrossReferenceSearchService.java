@@ -3,8 +3,11 @@ package com.components.scraper.service.murata;
 import com.components.scraper.ai.LLMHelper;
 import com.components.scraper.config.VendorConfigFactory;
 import com.components.scraper.parser.JsonGridParser;
-import com.components.scraper.service.core.CrossReferenceSearchService;
+import com.components.scraper.service.core.ReactiveCrossReferenceSearchService;
+import com.components.scraper.service.core.VendorOperation;
+import com.components.scraper.service.core.VendorPage;
 import com.components.scraper.service.core.VendorSearchEngine;
+import com.components.scraper.service.core.VendorTransportRegistry;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -12,8 +15,8 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.util.ArrayList;
@@ -22,6 +25,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * <h2>MurataHttpCrossReferenceSearchService</h2>
@@ -57,12 +61,36 @@ import java.util.Optional;
 @Slf4j
 @Service("murataCrossRefSvc")
 public class MurataCrossReferenceSearchService
-        extends VendorSearchEngine implements CrossReferenceSearchService {
+        extends VendorSearchEngine implements ReactiveCrossReferenceSearchService {
 
     /**
-     * Default number of rows to request in each cross-reference API call.
+     * Most Murata equivalents collected for one competitor part, across all pages.
      */
-    private static final int DEFAULT_ROWS = 20;
+    private static final int MAX_CROSS_REF_ROWS = 500;
+
+    /**
+     * Response section holding the competitor part(s).
+     */
+    private static final String SECTION_COMPETITOR = "otherPsDispRest";
+
+    /**
+     * Response section holding the (paged) Murata equivalents.
+     */
+    private static final String SECTION_MURATA = "murataPsDispRest";
+
+    /**
+     * JSON-Pointers to the Murata equivalents on a page and their total.
+     */
+    @SuppressWarnings("java:S1075") // allow hard-coded JSON path
+    private static final String JSON_PATH_MURATA_PRODUCTS = "/" + SECTION_MURATA + "/Result/data/products";
+
+    @SuppressWarnings("java:S1075") // allow hard-coded JSON path
+    private static final String JSON_PATH_MURATA_TOTAL = "/" + SECTION_MURATA + "/Result/data/count";
+
+    /**
+     * Shared, memoizing site-search category lookup.
+     */
+    private final MurataCategoryDiscovery discovery;
 
     /**
      * Constructs a new {@code MurataCrossReferenceSearchService} with the given
@@ -72,23 +100,30 @@ public class MurataCrossReferenceSearchService
      * @param parser      the {@link JsonGridParser} to transform JSON grid sections into record maps
      * @param factory     the {@link VendorConfigFactory} to obtain Murata-specific configuration
      * @param builder      the HTTP client Builder for API calls
+     * @param transports   registry providing the shared per-host connection pool
      * @param llmHelper   the {@link LLMHelper} for optional AI‑based category discovery
+     * @param om          the shared {@link ObjectMapper}
+     * @param discovery   shared site-search category discovery
      */
     public MurataCrossReferenceSearchService(
             @Qualifier("murataGridParser") final JsonGridParser parser,
             final VendorConfigFactory factory,
             final WebClient.Builder builder,
+            final VendorTransportRegistry transports,
             final LLMHelper llmHelper,
-            @Qualifier("scraperObjectMapper") ObjectMapper om
+            @Qualifier("scraperObjectMapper") ObjectMapper om,
+            final MurataCategoryDiscovery discovery
     ) {
-        super(factory.forVendor("murata"), builder, llmHelper, parser, om);
+        super(factory.forVendor("murata"), builder, transports, llmHelper, parser, om);
+        this.discovery = discovery;
     }
 
     /**
      * Searches Murata’s cross‑reference API for equivalent components to a competitor’s part.
      *
-     * <p>The method determines an appropriate <code>cate</code> parameter via AI-assisted
-     * discovery or fallback mapping, constructs the API request URI, invokes the HTTP GET,
+     * <p>The method determines the <code>cate</code> parameter via {@link MurataCategoryDiscovery}
+     * (site-search or a learned prefix), else from {@code categoryPath} or the configured
+     * cross-reference prefixes, constructs the API request URI, invokes the HTTP GET,
      * and parses the JSON response into two record tables: competitor and Murata results.
      * The output is a list of two maps, each containing:
      * <ul>
@@ -98,78 +133,73 @@ public class MurataCrossReferenceSearchService
      *
      * @param competitorMpn  the competitor’s manufacturer part number (may include trailing “#”)
      * @param categoryPath   optional category hierarchy for fallback code resolution
-     * @return a list of two entries (competitor and Murata tables), or an empty list if the API returns no data
+     * @return a {@link Mono} emitting two entries (competitor and Murata tables); both are empty when the
+     *         API returns no data
      * @throws IllegalArgumentException if no valid <code>cate</code> can be resolved
      */
     @Override
-    public List<Map<String, Object>> searchByCrossReference(final String competitorMpn,
-                                                            final List<String> categoryPath) {
+    public Mono<List<Map<String, Object>>> searchByCrossReferenceReactive(final String competitorMpn,
+                                                                          final List<String> categoryPath) {
+        Supplier<Mono<JsonNode>> siteSearch =
+                () -> getAsync(VendorOperation.SITE_SEARCH, getProductSitesearchUri(competitorMpn));
         // Determine the Murata category code for the cross-reference API
-        String cate = discoverCrossRefCate(competitorMpn);
-        if (!StringUtils.hasText(cate)) {
-            cate = resolveCate(categoryPath);
-        }
-        final String cateValue = cate;
-
-        String competitorMpnFixed = competitorMpn.replace("#", "").trim();
+        return discovery.crossRefCate(competitorMpn, siteSearch)
+                .switchIfEmpty(Mono.fromSupplier(() -> categoryPath != null && !categoryPath.isEmpty()
+                        ? resolveCate(categoryPath)
+                        : cateForCrossRef(competitorMpn)))
+                .doOnNext(cate -> log.debug("Cross-ref cate '{}' resolved for {}", cate, competitorMpn))
+                .flatMap(cate -> fetchCrossRef(cate, competitorMpn))
+                // nothing found with a learned cate: ask site-search and retry if it disagrees
+                .flatMap(pages -> pages.get(0).at(JSON_PATH_MURATA_PRODUCTS).size() > 0
+                        ? Mono.just(pages)
+                        : discovery.recheckCrossRefCate(competitorMpn, siteSearch)
+                                .flatMap(cate -> fetchCrossRef(cate, competitorMpn))
+                                .defaultIfEmpty(pages))
+                .map(this::toTables);
+    }
 
-        // Perform the HTTP GET against Murata’s cross-reference WebAPI
-//        JsonNode root = safeGet(ub -> {
-//            URI base = URI.create(getCfg().getBaseUrl());   // e.g. https://www.murata.com
-//
-//            // apply scheme + host (and port if present)
-//            ub = ub.scheme(base.getScheme())
-//                    .host(base.getHost());
-//            if (base.getPort() != -1) {                     // port is -1 when absent
-//                ub = ub.port(base.getPort());
-//            }
-//
-//            // prepend any path segment that is already part of base‑url
-//            String basePath = base.getPath();
-//            if (StringUtils.hasText(basePath) && !"/".equals(basePath)) {
-//                ub = ub.path(basePath);                     // e.g. "" or "/"
-//            }
-//
-//            /* endpoint + query parameters */
-//            return ub.path(getCfg().getCrossRefUrl())     // /webapi/PsdispRest
-//                    .queryParam("cate", cateValue)
-//                    .queryParam("partno", competitorMpnFixed)
-//                    .queryParam("stype", 1)
-//                    .queryParam("pageno", 1)
-//                    .queryParam("rows", DEFAULT_ROWS)
-//                    .queryParam("lang", "en-us")
-//                    .build();
-//        });
+    /**
+     * GETs Murata's cross-reference WebAPI: first page, then the rest in parallel.
+     */
+    private Mono<List<JsonNode>> fetchCrossRef(final String cate, final String competitorMpn) {
+        return fetchPages(MAX_CROSS_REF_ROWS, pageSizeFor(MAX_CROSS_REF_ROWS), (page, rows) ->
+                getAsync(VendorOperation.XREF, buildCrossRefUri(cate, competitorMpn, page, rows))
+                        .map(root -> new VendorPage<>(root,
+                                root.at(JSON_PATH_MURATA_PRODUCTS).size(),
+                                readTotal(root, JSON_PATH_MURATA_TOTAL))))
+                .collectList();
+    }
 
+    private URI buildCrossRefUri(final String cate, final String competitorMpn, final int page, final int rows) {
         /* Prepare query parameters */
         MultiValueMap<String,String> q = new LinkedMultiValueMap<>();
-        q.add("cate",    cateForCrossRef(competitorMpn));  // vendor-specific helper
+        q.add("cate",    cate);                            // resolved above
         q.add("partno",  competitorMpn.replaceAll("[^A-Za-z0-9]", ""));
         q.add("stype",   "1");
-        q.add("pageno",  "1");
-        q.add("rows",    String.valueOf(DEFAULT_ROWS));
+        q.add("pageno",  String.valueOf(page));
+        q.add("rows",    String.valueOf(rows));
         q.add("lang",    "en-us");
 
         /* Build absolute URI with the shared helper */
-        URI uri = buildUri(
+        return buildUri(
                 getCfg().getBaseUrl(),      // e.g. https://www.murata.com
                 getCfg().getCrossRefUrl(),  // e.g. /webapi/SearchCrossReference
                 q);
+    }
 
-        /* Hit the endpoint through the WebClient-backed helper */
-        JsonNode root = safeGet(uri);
-
-        if (root == null) {
-            return Collections.emptyList();
-        }
-
-        // Parse the two sections from the JSON response
+    private List<Map<String, Object>> toTables(final List<JsonNode> pages) {
+        // The competitor section repeats on every page; the Murata rows are paged
         List<Map<String, Object>> competitorTbl =
-                parseSection(root, "otherPsDispRest");
+                parseSection(pages.get(0), SECTION_COMPETITOR);
 
-        List<Map<String, Object>> murataTbl =
-                augmentWithDetailUrl(
-                        parseSection(root, "murataPsDispRest"));
+        List<Map<String, Object>> murataTbl = new ArrayList<>();
+        for (JsonNode page : pages) {
+            murataTbl.addAll(parseSection(page, SECTION_MURATA));
+        }
+        if (murataTbl.size() > MAX_CROSS_REF_ROWS) {
+            murataTbl = murataTbl.subList(0, MAX_CROSS_REF_ROWS);
+        }
+        augmentWithDetailUrl(murataTbl);
 
         // Wrap each table in a canonical output structure
         List<Map<String, Object>> out = new ArrayList<>(2);
@@ -199,58 +229,7 @@ public class MurataCrossReferenceSearchService
             log.warn("Missing grid section {}", key);
             return Collections.emptyList();
         }
-        return getParser().parse(section);
-    }
-
-    /**
-     * Attempts to discover the correct Murata cross-reference category code for a given
-     * competitor MPN by querying Murata’s public site-search endpoint.
-     * <p>
-     * This method will:
-     * <ol>
-     *   <li>Invoke the site-search API to retrieve a JSON response.</li>
-     *   <li>Inspect the top-level <code>crossreference</code> array.</li>
-     *   <li>If the first entry has non-empty <code>children</code>, return the
-     *       <code>category_id</code> of its first child.</li>
-     *   <li>Otherwise, fall back to the parent entry’s own <code>category_id</code>.</li>
-     *   <li>If no valid category is found, returns <code>null</code> and logs a warning.</li>
-     * </ol>
-     *
-     * @param mpn the competitor’s manufacturer part number (e.g. “XYZ1234”)
-     * @return the discovered cross-reference <code>cate</code> code, or <code>null</code>
-     *         if none could be determined
-     */
-    private String discoverCrossRefCate(final String mpn) {
-        JsonNode root = safeGet(getProductSitesearchUri(mpn));
-        if (root == null) {
-            log.warn("No response from site-search for Competitor MPN {}", mpn);
-            return null;
-        }
-
-        JsonNode xrefArray = root.path("crossreference");
-        if (xrefArray.isArray() && !xrefArray.isEmpty()) {
-            JsonNode first = xrefArray.get(0);
-
-            // look for a child category first
-            JsonNode children = first.path("children");
-            if (children.isArray() && !children.isEmpty()) {
-                String childCate = children.get(0).path("category_id").asText(null);
-                if (StringUtils.hasText(childCate)) {
-                    log.info("Site-search: using child cross-ref cate '{}' for MPN {}", childCate, mpn);
-                    return childCate;
-                }
-            }
-
-            // fallback to the parent’s category_id
-            String parentCate = first.path("category_id").asText(null);
-            if (StringUtils.hasText(parentCate)) {
-                log.info("Site-search: using parent cross-ref cate '{}' for MPN {}", parentCate, mpn);
-                return parentCate;
-            }
-        }
-
-        log.warn("Site-search returned no crossreference entries for MPN {}", mpn);
-        return null;
+        return parseGrid(VendorOperation.XREF, section);
     }
 
     private List<Map<String, Object>> augmentWithDetailUrl(final List<Map<String, Object>> in) {
@@ -3,26 +3,51 @@ package com.components.scraper.service.murata;
 import com.components.scraper.ai.LLMHelper;
 import com.components.scraper.config.VendorConfigFactory;
 import com.components.scraper.parser.JsonGridParser;
+import com.components.scraper.service.core.VendorOperation;
 import com.components.scraper.service.core.VendorSearchEngine;
-import com.components.scraper.service.core.MpnSearchService;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.components.scraper.service.core.VendorTransportRegistry;
+import com.components.scraper.service.core.ReactiveMpnSearchService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service("murataMpnSvc")
 public class MurataMpnSearchService
-        extends VendorSearchEngine implements MpnSearchService {
+        extends VendorSearchEngine implements ReactiveMpnSearchService {
+
+    /**
+     * Shared, memoizing site-search category lookup.
+     */
+    private final MurataCategoryDiscovery discovery;
+
+    /**
+     * Part-number classifier used when site-search finds no category.
+     */
+    private final LocalCateClassifier classifier;
+
+    /**
+     * Speculative PsdispRest calls whose predicted cate was confirmed.
+     */
+    private final Counter speculationHits;
+
+    /**
+     * Speculative PsdispRest calls discarded because the cate differed.
+     */
+    private final Counter speculationMisses;
 
     /**
      * Constructs the Murata MPN search service.
@@ -30,17 +55,29 @@ public class MurataMpnSearchService
      * @param parser    JSON-grid parser bean qualified as "murataGridParser"
      * @param factory   factory for loading Murata vendor configuration
      * @param builder   configured Builder for HTTP calls
+     * @param transports registry providing the shared per-host connection pool
      * @param llmHelper LLMHelper to ask ChatGPT for the vendor’s real “cate” code
      * @param om        Object Mapper
+     * @param discovery shared site-search category discovery
+     * @param classifier local prefix classifier, backed by the LLM
+     * @param registry  meter registry for the speculation counters
      */
     public MurataMpnSearchService(
             @Qualifier("murataGridParser") final JsonGridParser parser,
             final VendorConfigFactory factory,
             final WebClient.Builder builder,
+            final VendorTransportRegistry transports,
             final LLMHelper llmHelper,
-            @Qualifier("scraperObjectMapper") final ObjectMapper om
+            @Qualifier("scraperObjectMapper") final ObjectMapper om,
+            final MurataCategoryDiscovery discovery,
+            final LocalCateClassifier classifier,
+            final MeterRegistry registry
     ) {
-        super(factory.forVendor("murata"), builder, llmHelper, parser, om);
+        super(factory.forVendor("murata"), builder, transports, llmHelper, parser, om);
+        this.discovery = discovery;
+        this.classifier = classifier;
+        this.speculationHits = speculationCounter(registry, "hit");
+        this.speculationMisses = speculationCounter(registry, "miss");
     }
 
     @Override
@@ -49,69 +86,97 @@ public class MurataMpnSearchService
     }
 
     @Override
-    public List<Map<String, Object>> searchByMpn(final String mpn) {
+    public Mono<List<Map<String, Object>>> searchByMpnReactive(final String mpn) {
 
         // Clean the MPN string (trim whitespace, leave trailing "#" if present)
         String cleaned = mpn.trim();
 
-        // Discover cate via site‐search
-        String cate = discoverCate(cleaned);
+        Optional<String> predicted = getCfg().isSpeculativeMpnLookup() && discovery.requiresSiteSearch(cleaned)
+                ? classifier.confidentCate(cleaned)
+                : Optional.empty();
+        Mono<byte[]> body = predicted
+                .map(cate -> Mono.defer(() -> speculativeLookup(cleaned, cate)))
+                .orElseGet(() -> resolveCate(cleaned)
+                        .flatMap(cate -> getBytesAsync(VendorOperation.MPN, buildMpnUri(cate, cleaned))));
+
+        // Stream the grid rows straight from the response body
+        return body
+                .flatMapMany(bytes -> parseRows(VendorOperation.MPN, bytes))
+                .collectList()
+                .flatMap(rows -> rows.isEmpty() ? recheck(cleaned) : Mono.just(rows));
+    }
 
-        // Fallback to search cate if needed
-        if (!StringUtils.hasText(cate)) {
-            // Determine the Murata category code based on the MPN prefix
-            cate = cateFromPartNo(cleaned);
-        }
+    /**
+     * Nothing found: if the cate came from a learned prefix, asks site-search and
+     * repeats the lookup when it names a different cate.
+     */
+    private Mono<List<Map<String, Object>>> recheck(final String cleaned) {
+        return discovery.recheckCate(cleaned, () -> getAsync(VendorOperation.SITE_SEARCH, getProductSitesearchUri(cleaned)))
+                .flatMap(cate -> {
+                    log.debug("Learned cate for {} found nothing; retrying with site-search cate '{}'", cleaned, cate);
+                    return getBytesAsync(VendorOperation.MPN, buildMpnUri(cate, cleaned));
+                })
+                .flatMapMany(bytes -> parseRows(VendorOperation.MPN, bytes))
+                .collectList();
+    }
+
+    /**
+     * Discovers the cate via site‐search, then the local classifier (LLM below its
+     * confidence threshold), then the vendor default.
+     */
+    private Mono<String> resolveCate(final String cleaned) {
+        return discovery.cate(cleaned, () -> getAsync(VendorOperation.SITE_SEARCH, getProductSitesearchUri(cleaned)))
+                .switchIfEmpty(Mono.defer(() -> classifier.cate(cleaned)))
+                .switchIfEmpty(Mono.fromSupplier(() -> cateFromPartNo(cleaned)));
+    }
+
+    /**
+     * Starts the PsdispRest call with the predicted cate right away, while the cate
+     * is resolved. The speculative response is used if the resolved cate agrees;
+     * otherwise it is cancelled and the call re-issued with the resolved cate.
+     * The speculative call runs in the subscriber's context, so its failures reach
+     * {@link com.components.scraper.service.core.LoadFailures}, and bypasses
+     * single-flight, so cancelling it stops the upstream request.
+     */
+    private Mono<byte[]> speculativeLookup(final String cleaned, final String predicted) {
+        return Mono.deferContextual(ctx -> {
+            CompletableFuture<byte[]> speculative =
+                    getBytesUnsharedAsync(VendorOperation.MPN, buildMpnUri(predicted, cleaned))
+                            .contextWrite(ctx)
+                            .toFuture();
+            return resolveCate(cleaned)
+                    .flatMap(cate -> {
+                        if (cate.equals(predicted)) {
+                            speculationHits.increment();
+                            return Mono.fromFuture(speculative);
+                        }
+                        speculationMisses.increment();
+                        speculative.cancel(true);
+                        log.debug("Speculative cate '{}' for {} was wrong ('{}'); re-issuing", predicted, cleaned, cate);
+                        return getBytesAsync(VendorOperation.MPN, buildMpnUri(cate, cleaned));
+                    })
+                    .doFinally(sig -> speculative.cancel(true));
+        });
+    }
 
-        final String cateValue = cate;
+    private static Counter speculationCounter(final MeterRegistry registry, final String result) {
+        return Counter.builder("murata.mpn.speculation")
+                .tag("result", result)
+                .description("Speculative Murata MPN queries by whether the predicted cate was confirmed")
+                .register(registry);
+    }
 
+    private URI buildMpnUri(final String cate, final String cleaned) {
         MultiValueMap<String, String> q = new LinkedMultiValueMap<>();
-        q.add("cate", cateValue);          // discovered earlier
+        q.add("cate", cate);               // discovered earlier
         q.add("partno", cleaned);            // cleaned = mpn.trim()
         q.add("stype", "1");
         q.add("lang", "en-us");
 
-        URI uri = buildUri(
+        return buildUri(
                 getCfg().getBaseUrl(),       // e.g. https://www.murata.com
                 getCfg().getMpnSearchPath(), // e.g. /webapi/PsdispRest
                 q);
-
-        JsonNode root = safeGet(uri);        // pooled, gzip WebClient
-
-        // Parse the grid into a list of maps and return
-        return getParser().parse(root).stream().toList();
-    }
-
-    private String discoverCate(final String mpn) {
-        if (!StringUtils.hasText(mpn) || mpn.length() < PARTNO_PREFIX_LENGTH) {
-            return null;
-        }
-        JsonNode resp = safeGet(getProductSitesearchUri(mpn));
-        if (resp == null) {
-            log.warn("No response from site-search for Competitor MPN {}", mpn);
-            return null;
-        }
-        JsonNode cats = resp.path("categories");
-        if (cats.isArray() && !cats.isEmpty()) {
-            JsonNode first = cats.get(0);
-            JsonNode children = first.path("children");
-            if (children.isArray() && !children.isEmpty()) {
-                String childCate = children.get(0).path("category_id").asText(null);
-                if (StringUtils.hasText(childCate)) {
-                    log.info("Using child category '{}' for MPN {}", childCate, mpn);
-                    return childCate;
-                }
-            }
-            // no valid child, fall back to parent
-            String parentCate = first.path("category_id").asText(null);
-            if (StringUtils.hasText(parentCate)) {
-                log.info("Using parent category '{}' for MPN {}", parentCate, mpn);
-                return parentCate;
-            }
-        }
-
-        log.warn("Murata site‐search returned no categories for MPN {}", mpn);
-        return null;
     }
 
 }
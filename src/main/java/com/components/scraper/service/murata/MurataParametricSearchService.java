@@ -4,8 +4,11 @@ import com.components.scraper.ai.LLMHelper;
 import com.components.scraper.config.ParametricFilterConfig;
 import com.components.scraper.config.VendorConfigFactory;
 import com.components.scraper.parser.JsonGridParser;
-import com.components.scraper.service.core.ParametricSearchService;
+import com.components.scraper.service.core.ReactiveParametricSearchService;
+import com.components.scraper.service.core.VendorOperation;
+import com.components.scraper.service.core.VendorPage;
 import com.components.scraper.service.core.VendorSearchEngine;
+import com.components.scraper.service.core.VendorTransportRegistry;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +20,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.util.Collection;
@@ -43,13 +48,13 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li>automatic <code>cate</code> lookup from MPN prefix,</li>
  *   <li>unlimited parameter filters via the Murata <code>scon</code> syntax,</li>
- *   <li>row limiting (<code>rows</code>) and server‑side sorting.</li>
+ *   <li>row limiting (<code>rows</code>) with parallel paging (<code>pageno</code>) and server‑side sorting.</li>
  * </ul>
  */
 @Slf4j
 @Service("murataParamSvc")
 public class MurataParametricSearchService
-        extends VendorSearchEngine implements ParametricSearchService {
+        extends VendorSearchEngine implements ReactiveParametricSearchService {
 
     /**
      * helper – turn a caption into its set of words, e.g.
@@ -61,6 +66,12 @@ public class MurataParametricSearchService
      */
     private static final String PATH_DELIMITER = "/";
 
+    /**
+     * JSON-Pointer to the total number of matching products.
+     */
+    @SuppressWarnings("java:S1075") // allow hard-coded JSON path
+    private static final String JSON_PATH_TOTAL = "/Result/data/count";
+
     /**
      * All parametric‐filter definitions loaded from YAML.
      */
@@ -75,6 +86,11 @@ public class MurataParametricSearchService
      */
     private final MurataCateResolver cateResolver;
 
+    /**
+     * Shared, memoizing site-search category lookup.
+     */
+    private final MurataCategoryDiscovery discovery;
+
     /**
      * Constructs a new MurataParametricSearchService.
      *
@@ -84,19 +100,23 @@ public class MurataParametricSearchService
      * @param llmHelper    a preconfigured {@link RestClient} for HTTP
      * @param filterConfig YAML-bound filter definitions
      * @param cateResolver a category translate service
+     * @param discovery    shared site-search category discovery
      */
     public MurataParametricSearchService(
             @Qualifier("murataGridParser") final JsonGridParser parser,
             final VendorConfigFactory factory,
             final WebClient.Builder builder,
+            final VendorTransportRegistry transports,
             final LLMHelper llmHelper,
             @Qualifier("scraperObjectMapper") ObjectMapper om,
             final ParametricFilterConfig filterConfig,
-            final MurataCateResolver cateResolver
+            final MurataCateResolver cateResolver,
+            final MurataCategoryDiscovery discovery
     ) {
-        super(factory.forVendor("murata"), builder, llmHelper, parser, om);
+        super(factory.forVendor("murata"), builder, transports, llmHelper, parser, om);
         this.filterConfig = filterConfig;
         this.cateResolver = cateResolver;
+        this.discovery = discovery;
     }
 
     /**
@@ -120,11 +140,11 @@ public class MurataParametricSearchService
      * @param subcategory an optional subcategory (may be {@code null})
      * @param parameters  a map of filter criteria (never {@code null})
      * @param maxResults  maximum number of rows to return (server may cap)
-     * @return a list of result‐row maps; each map’s keys are column titles
+     * @return a stream of result‐row maps; each map’s keys are column titles
      * @throws IllegalArgumentException if any parameter value type is unsupported
      */
     @Override
-    public List<Map<String, Object>> searchByParameters(
+    public Flux<Map<String, Object>> searchByParametersReactive(
             @NonNull final String category,
             @Nullable final String subcategory,
             @NonNull final Map<String, Object> parameters,
@@ -133,23 +153,30 @@ public class MurataParametricSearchService
     ) {
 
         // 1) Resolve cate code from mpn
-        String cateByMpn = discoverCate(getMpnParam(parameters));
-        String cate = resolveCate(category, subcategory, cateByMpn);
-
-        URI uri = buildParametricUri(cate, parameters, maxResults);
-
-        JsonNode root = safeGet(uri);
-        if (root == null || root.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        // 5) Parse Murata grid
-        List<Map<String, Object>> rows = getParser().parse(root);
+        String mpn = getMpnParam(parameters);
+        int pageSize = pageSizeFor(maxResults);
+        return discovery.cate(mpn, () -> getAsync(VendorOperation.SITE_SEARCH, getProductSitesearchUri(mpn)))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                // 2) Build the query off the event loop – "details" goes through the LLM
+                .flatMap(cateByMpn -> offload(() -> buildParametricQuery(
+                        resolveCate(category, subcategory, cateByMpn.orElse(null)),
+                        parameters)))
+                // 3) Hit PsdispRest: first page, then the rest in parallel, in page order
+                .flatMapMany(query -> fetchPages(maxResults, pageSize,
+                        (page, rows) -> fetchPage(query, page, rows)))
+                .flatMapIterable(Function.identity())
+                // 4) Respect maxResults
+                .take(maxResults);
+    }
 
-        // 6) Respect maxResults and return
-        return rows.size() > maxResults
-                ? rows.subList(0, maxResults)
-                : rows;
+    private Mono<VendorPage<List<Map<String, Object>>>> fetchPage(final MultiValueMap<String, String> query,
+                                                                  final int page,
+                                                                  final int rows) {
+        return getBytesAsync(VendorOperation.PARAMETRIC, buildParametricUri(query, page, rows))
+                .flatMap(body -> parseRows(VendorOperation.PARAMETRIC, body)
+                        .collectList()
+                        .map(list -> new VendorPage<>(list, list.size(), readTotal(body, JSON_PATH_TOTAL))));
     }
 
     /**
@@ -173,19 +200,24 @@ public class MurataParametricSearchService
                 .toLowerCase(Locale.ROOT)
                 .trim();
         // longest matching prefix wins
-        return cateResolver.cateFor(normalisedPath);
+        return Optional.ofNullable(cateResolver.cateFor(normalisedPath))
+                .or(() -> Optional.ofNullable(defaultCategory))
+                .orElse(getCfg().getDefaultCate());
     }
 
-    private URI buildParametricUri(String cate,
-                                   Map<String,Object> params,
-                                   int rows) {
+    /**
+     * Builds the page-independent part of the <code>PsdispRest</code> query:
+     * category, part-number prefix and the <code>scon</code> filters (including
+     * any LLM-derived from {@code details}).
+     */
+    MultiValueMap<String,String> buildParametricQuery(String cate,
+                                                      Map<String,Object> params) {
 
         /* Base query string ----------------------------------------- */
         MultiValueMap<String,String> q = new LinkedMultiValueMap<>();
         q.add("cate",   cate);
         q.add("partno", getMpnParam(params));
         q.add("stype",  "1");
-        q.add("rows",   String.valueOf(rows));
         q.add("lang",   "en-us");
 
         /* Extra “scon” filters -------------------------------------- */
@@ -196,6 +228,22 @@ public class MurataParametricSearchService
             buildDetailsQueryParameters(params, defs, q);     // unchanged helpers
             buildSearchWithParameters   (params, defs, q);
         }
+        return q;
+    }
+
+    /**
+     * Builds the <code>PsdispRest</code> URI for one page of a parametric query.
+     *
+     * @param query result of {@link #buildParametricQuery(String, Map)}
+     * @param page  1-based page number
+     * @param rows  rows per page
+     */
+    URI buildParametricUri(MultiValueMap<String,String> query,
+                           int page,
+                           int rows) {
+        MultiValueMap<String,String> q = new LinkedMultiValueMap<>(query);
+        q.set("pageno", String.valueOf(page));
+        q.set("rows",   String.valueOf(rows));
 
         /* Delegate to VendorSearchEngine helper --------------------- */
         return buildUri(
@@ -401,46 +449,6 @@ public class MurataParametricSearchService
                 .map(Object::toString).orElse(null);
     }
 
-    /**
-     * Calls Murata’s public site‐search JSON endpoint to discover the first
-     * matching <code>category_id</code> for the given MPN. Prefers a child
-     * category if present; otherwise falls back to the parent category.
-     *
-     * @param mpn the manufacturer part number to search (must be at least 3 characters)
-     * @return the discovered <code>category_id</code>, or {@code null} if none found
-     */
-    private String discoverCate(final String mpn) {
-        if (StringUtils.isBlank(mpn) || mpn.length() < PARTNO_PREFIX_LENGTH) {
-            return null;
-        }
-        JsonNode resp = safeGet(getProductSitesearchUri(mpn));
-        if (resp == null) {
-            log.warn("No response from site-search for Competitor MPN {}", mpn);
-            return null;
-        }
-        JsonNode cats = resp.path("categories");
-        if (cats.isArray() && !cats.isEmpty()) {
-            JsonNode first = cats.get(0);
-            JsonNode children = first.path("children");
-            if (children.isArray() && !children.isEmpty()) {
-                String childCate = children.get(0).path("category_id").asText(null);
-                if (org.springframework.util.StringUtils.hasText(childCate)) {
-                    log.info("Using child category '{}' for MPN {}", childCate, mpn);
-                    return childCate;
-                }
-            }
-            // no valid child, fall back to parent
-            String parentCate = first.path("category_id").asText(null);
-            if (org.springframework.util.StringUtils.hasText(parentCate)) {
-                log.info("Using parent category '{}' for MPN {}", parentCate, mpn);
-                return parentCate;
-            }
-        }
-
-        log.warn("Murata site‐search returned no categories for MPN {}", mpn);
-        return null;
-    }
-
     /**
      * Build one “scon=” clause.
      *
@@ -472,7 +480,7 @@ public class MurataParametricSearchService
      * @return a list of properly‐encoded <code>scon</code> query strings
      * @throws IllegalArgumentException if the raw type is unsupported
      */
-    private List<String> renderScon(final String field, final Object raw) {
+    List<String> renderScon(final String field, final Object raw) {
 
         if (field == null) {
             return Collections.emptyList();
@@ -3,9 +3,10 @@ package com.components.scraper.service.tdk;
 import com.components.scraper.ai.LLMHelper;
 import com.components.scraper.config.VendorConfigFactory;
 import com.components.scraper.parser.JsonGridParser;
-import com.components.scraper.service.core.MpnSearchService;
+import com.components.scraper.service.core.ReactiveMpnSearchService;
+import com.components.scraper.service.core.VendorOperation;
 import com.components.scraper.service.core.VendorSearchEngine;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.components.scraper.service.core.VendorTransportRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.util.List;
@@ -46,7 +48,7 @@ import java.util.regex.Pattern;
 @ConditionalOnProperty(prefix = "scraper.configs.tdk", name = "enabled",
         havingValue = "true", matchIfMissing = true)
 public class TdkMpnSearchService extends TdkSearchEngine
-        implements MpnSearchService {
+        implements ReactiveMpnSearchService {
 
     /**
      * Fallback <code>site</code> constant used before warm-up completes.
@@ -69,6 +71,7 @@ public class TdkMpnSearchService extends TdkSearchEngine
      * @param parser    JSON-grid parser bean qualified as "murataGridParser"
      * @param factory   factory for loading Murata vendor configuration
      * @param builder   configured Webclient builder
+     * @param transports registry providing the shared per-host connection pool
      * @param llmHelper LLMHelper to ask ChatGPT for the vendor’s real “cate” code
      * @param om        Object Mapper
      */
@@ -77,10 +80,11 @@ public class TdkMpnSearchService extends TdkSearchEngine
             @Qualifier("tdkGridParser") final JsonGridParser parser,
             final VendorConfigFactory factory,
             final WebClient.Builder builder,
+            final VendorTransportRegistry transports,
             final LLMHelper llmHelper,
             @Qualifier("scraperObjectMapper") final ObjectMapper om
     ) {
-        super(factory.forVendor("tdk"), builder, llmHelper, parser, om);
+        super(factory.forVendor("tdk"), builder, transports, llmHelper, parser, om);
     }
 
     /**
@@ -95,7 +99,7 @@ public class TdkMpnSearchService extends TdkSearchEngine
      * {@inheritDoc}
      */
     @Override
-    public List<Map<String, Object>> searchByMpn(final String mpn) {
+    public Mono<List<Map<String, Object>>> searchByMpnReactive(final String mpn) {
         String cleaned = mpn.trim();
 
         // Build POST form. Prepare constant form fields once (site, group, design, etc.)
@@ -114,16 +118,8 @@ public class TdkMpnSearchService extends TdkSearchEngine
         // Call API
         URI endpoint = buildUri(getCfg().getBaseUrl(), getCfg().getMpnSearchPath(), null);
 
-        baseForm.set("pn", cleaned);
-        long t0 = System.nanoTime();
-        JsonNode rsp = safePost(endpoint, baseForm);
-        long t1 = System.nanoTime();
-        List<Map<String, Object>> rows = getParser().parse(rsp);
-        long t2 = System.nanoTime();
-
-        log.info("TDK  NET={} ms  PARSE={} ms  TOTAL={} ms",
-                (t1 - t0) / MILLISECONDS_VALUE, (t2 - t1) / MILLISECONDS_VALUE, (t2 - t0) / MILLISECONDS_VALUE);
-        return rows;
+        return postAsync(VendorOperation.MPN, endpoint, baseForm)
+                .map(rsp -> parseGrid(VendorOperation.MPN, rsp));
     }
 
 }
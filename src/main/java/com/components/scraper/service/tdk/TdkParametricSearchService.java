@@ -4,8 +4,11 @@ import com.components.scraper.ai.LLMHelper;
 import com.components.scraper.config.ParametricFilterConfig;
 import com.components.scraper.config.VendorConfigFactory;
 import com.components.scraper.parser.JsonGridParser;
-import com.components.scraper.service.core.ParametricSearchService;
+import com.components.scraper.service.core.ReactiveParametricSearchService;
+import com.components.scraper.service.core.VendorOperation;
+import com.components.scraper.service.core.VendorPage;
 import com.components.scraper.service.core.VendorSearchEngine;
+import com.components.scraper.service.core.VendorTransportRegistry;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -17,15 +20,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 
-import jakarta.annotation.PostConstruct;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -43,18 +47,23 @@ import java.util.regex.Pattern;
 @Slf4j
 @Service("tdkParamSvc")
 @ConditionalOnProperty(prefix = "scraper.configs.tdk", name = "enabled", havingValue = "true", matchIfMissing = true)
-public class TdkParametricSearchService extends TdkSearchEngine implements ParametricSearchService {
+public class TdkParametricSearchService extends TdkSearchEngine implements ReactiveParametricSearchService {
 
     /** Key for free-text "details" parameter. */
     private static final String DETAILS_KEY = "details";
 
     private static final Pattern DETAILS_FILTER_PATTERN = Pattern.compile("([^\"]+)");
 
+    /** JSON-Pointer to the total number of matching parts. */
+    @SuppressWarnings("java:S1075") // allow hard-coded JSON path
+    private static final String JSON_PATH_TOTAL = "/total";
+
     /**
      * Constructs the TDK parametric search service.
      * @param filterConfig YAML-backed filter definitions
      * @param factory vendor config factory
      * @param builder shared WebClient.Builder
+     * @param transports registry providing the shared per-host connection pool
      * @param llmHelper LLM helper for free-text filters
      * @param parser JSON grid parser for structured results
      * @param mapper shared JSON mapper
@@ -63,10 +72,11 @@ public class TdkParametricSearchService extends TdkSearchEngine implements Param
             final ParametricFilterConfig filterConfig,
             final VendorConfigFactory factory,
             final WebClient.Builder builder,
+            final VendorTransportRegistry transports,
             final LLMHelper llmHelper,
             @Qualifier("tdkGridParser") final JsonGridParser parser,
             @Qualifier("scraperObjectMapper") final ObjectMapper mapper) {
-        super(factory.forVendor("tdk"), builder, llmHelper, parser, mapper);
+        super(factory.forVendor("tdk"), builder, transports, llmHelper, parser, mapper);
     }
 
     /**
@@ -75,34 +85,52 @@ public class TdkParametricSearchService extends TdkSearchEngine implements Param
      * @param subcategory optional subcategory
      * @param parameters map of parameter key→value or range or collection
      * @param maxResults maximum rows to return
-     * @return list of row maps matching filters
+     * @return stream of row maps matching filters
      */
     @Override
-    public List<Map<String,Object>> searchByParameters(
+    public Flux<Map<String,Object>> searchByParametersReactive(
             final String category,
             final String subcategory,
             final Map<String,Object> parameters,
             final int maxResults) {
 
-        // Build form data
-        MultiValueMap<String,String> form = buildForm(category, subcategory, parameters, maxResults);
+        // Build form data off the event loop – free-text "details" goes through the LLM
         URI endpoint = buildUri(getCfg().getBaseUrl(), getCfg().getParametricSearchUrl(), null);
+        int pageSize = pageSizeFor(maxResults);
+
+        return offload(() -> buildForm(category, subcategory, parameters))
+                // first page, then the rest in parallel, in page order
+                .flatMapMany(form -> fetchPages(maxResults, pageSize,
+                        (page, rows) -> fetchPage(endpoint, form, page, rows)))
+                .flatMapIterable(Function.identity())
+                .take(maxResults);
+    }
 
-        JsonNode rsp = safePost(endpoint, form);
-        return getParser().parse(rsp).stream()
-                .limit(maxResults)
-                .toList();
+    private Mono<VendorPage<List<Map<String,Object>>>> fetchPage(
+            final URI endpoint,
+            final MultiValueMap<String,String> form,
+            final int page,
+            final int rows) {
+
+        MultiValueMap<String,String> pageForm = new LinkedMultiValueMap<>(form);
+        pageForm.set("_l", String.valueOf(rows));
+        pageForm.set("_p", String.valueOf(page));
+        return postAsync(VendorOperation.PARAMETRIC, endpoint, pageForm)
+                .map(rsp -> {
+                    List<Map<String,Object>> list = parseGrid(VendorOperation.PARAMETRIC, rsp);
+                    return new VendorPage<>(list, list.size(), readTotal(rsp, JSON_PATH_TOTAL));
+                });
     }
 
     /**
      * Builds the URL-encoded form data for the parametric search,
-     * including free-text "details" via LLM.
+     * including free-text "details" via LLM. Paging fields ({@code _l},
+     * {@code _p}) are added per page.
      */
     private MultiValueMap<String,String> buildForm(
             final String category,
             final String subcategory,
-            final Map<String,Object> params,
-            final int maxResults) {
+            final Map<String,Object> params) {
 
         MultiValueMap<String,String> form = new LinkedMultiValueMap<>();
         form.add("site",   getSite().get());
@@ -110,8 +138,6 @@ public class TdkParametricSearchService extends TdkSearchEngine implements Param
         form.add("group",  getGroup().get());
         form.add("design", getDesign().get());
         form.add("fromsyncsearch","1");
-        form.add("_l", String.valueOf(maxResults));
-        form.add("_p","1");
         form.add("_c","part_no-part_no");
         form.add("_d","0");
 
@@ -4,8 +4,8 @@ import com.components.scraper.ai.LLMHelper;
 import com.components.scraper.config.VendorCfg;
 import com.components.scraper.parser.JsonGridParser;
 import com.components.scraper.service.core.VendorSearchEngine;
+import com.components.scraper.service.core.VendorTransportRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
@@ -18,11 +18,10 @@ import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -73,60 +72,65 @@ public abstract class TdkSearchEngine extends VendorSearchEngine {
      */
     private final AtomicReference<String> design = new AtomicReference<>(DEFAULT_DESIGN);
 
-    // Guard to ensure warm-up only runs once
-    private static final AtomicBoolean WARMED = new AtomicBoolean(false);
-
     // How many chars of HTML to scan for the constants
     private static final int CHUNK_LIMIT = 2_048;
 
-    /**
-     * How long to wait for the warm-up stream.
-     * Warm-up tuning: timeout.
-     */
-    private static final long WARMUP_TIMEOUT_S = 30;             // seconds
     protected TdkSearchEngine(VendorCfg cfg,
                               WebClient.Builder builder,
+                              VendorTransportRegistry transports,
                               LLMHelper llmHelper,
                               JsonGridParser parser,
                               ObjectMapper mapper) {
-        super(cfg, builder, llmHelper, parser, mapper);
+        super(cfg, builder, transports, llmHelper, parser, mapper);
     }
 
     /**
-     * <p>Initiates the warm-up sequence immediately after Spring instantiates
-     * the bean. The sequence:</p>
+     * <p>Warm-up sequence, run in the background by
+     * {@link com.components.scraper.service.core.VendorWarmup} after start-up:</p>
      * <ol>
      *   <li>Sends a <code>GET /en/search/list</code> to obtain the TDK session
      *       cookie and to read the inline JavaScript that contains the
      *       <em>site / group / design</em> constants.</li>
      *   <li>Parses those constants and stores them in the {@link
      *       #site}/{@link #group}/{@link #design} atomic references.</li>
-     *   <li>Caches the Mono so the HTTP call is executed exactly once.</li>
      * </ol>
-     * <p>The method triggers the Mono asynchronously and also blocks once to
-     * make sure warm-up completes during application start-up.</p>
+     * <p>The TDK beans share one entry-page fetch through the transport's
+     * single-flight; each stores the cookies and constants for itself. Until
+     * then, and if the fetch fails, the default constants are used.</p>
+     *
+     * @return completes when the constants are known or the fetch failed
      */
-    @PostConstruct
-    private void initWarmup() {
-
-        if (!WARMED.compareAndSet(false, true)) {
-            return;  // already done
-        }
-
+    @Override
+    public Mono<Void> warmUp() {
         URI entry = buildUri(
                 getCfg().getBaseUrl(),          // https://product.tdk.com
                 "/en/search/list",              // entry-page that sets cookie
                 null);
 
-        Mono<Void> warmUpMono = getWebClient().get()
+        return getTransport().getSingleFlight().execute("WARMUP " + entry, () -> fetchEntryPage(entry))
+                .doOnNext(page -> {
+                    page.cookies().forEach(this::putAntiBotCookie);
+                    extractConstants(page.html());
+                })
+                .doOnSuccess(v -> log.info("TDK warm-up finished"))
+                .onErrorResume(e -> {
+                    log.warn("TDK warm-up failed: {}", e.toString());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<EntryPage> fetchEntryPage(final URI entry) {
+        return getWebClient().get()
                 .uri(entry)
                 .accept(MediaType.TEXT_HTML)
                 .exchangeToMono(resp -> {
                     // --- capture Akamai bm_* cookies ---
+                    Map<String, String> cookies = new LinkedHashMap<>();
                     resp.cookies().values().stream()
                             .flatMap(List::stream)
                             .filter(c -> c.getName().startsWith("bm_"))
-                            .forEach(c -> putAntiBotCookie(c.getName(), c.getValue()));
+                            .forEach(c -> cookies.put(c.getName(), c.getValue()));
 
                     // --- stream small chunk until constants appear ---
                     return resp.bodyToFlux(DataBuffer.class)
@@ -137,29 +141,10 @@ public abstract class TdkSearchEngine extends VendorSearchEngine {
                                     && sb.indexOf("group:") > 0
                                     && sb.indexOf("design:") > 0)
                             .next()
-                            .map(StringBuilder::toString);
-                })
-                .timeout(Duration.ofSeconds(WARMUP_TIMEOUT_S))
-                .doOnNext(this::extractConstants)
-                .doOnSuccess(v -> log.info("TDK warm-up finished"))
-                .doOnError(e -> log.warn("TDK warm-up failed: {}", e.toString()))
-                .onErrorResume(e -> Mono.empty())
-                .onErrorResume(e -> {
-                    log.warn("TDK warm‑up failed: {}", e.toString());
-                    return Mono.empty();
-                })
-                .then()
-                .cache();
-
-        // Kick it off asynchronously AND wait for completion once
-        // No blocking of Spring context start-up
-        warmUpMono.subscribe();
-        // 1st thread triggers the warm-up; others race but all get same Mono
-        warmUpMono.block();
-
+                            .map(sb -> new EntryPage(cookies, sb.toString()));
+                });
     }
 
-
     /**
      * Pull site / group / design out of the entry-page <script> tag.
      * Parses the entry page’s inline {@code <script>} to discover the current
@@ -213,4 +198,9 @@ public abstract class TdkSearchEngine extends VendorSearchEngine {
         return m.find() ? m.group(1) : defaultVal;
     }
 
+    /**
+     * Akamai cookies and the leading HTML of the entry page.
+     */
+    private record EntryPage(Map<String, String> cookies, String html) {
+    }
 }
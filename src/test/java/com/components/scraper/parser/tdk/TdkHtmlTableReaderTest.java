@@ -0,0 +1,192 @@
+package com.components.scraper.parser.tdk;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Parity of {@link TdkHtmlTableReader} and {@link TdkJsonGridParser} with the
+ * Jsoup DOM and selectors ({@code tr}, {@code td}, {@code a[href]},
+ * {@code a[href$=.pdf]}) they replaced.
+ */
+class TdkHtmlTableReaderTest {
+
+    private static final Path FIXTURE = Path.of("src/jmh/resources/fixtures/tdk-search-result.json");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** Two leading decorative rows, as in TDK's markup; the parser skips them. */
+    private static final String HEAD_ROWS = "<tr class=\"head\"><th></th><th></th><th>Part No.</th></tr>"
+            + "<tr class=\"sub\"><td></td><td></td><td></td></tr>";
+
+    static Stream<String> edgeCases() {
+        return Stream.of(
+                // entities, non-breaking and zero-width spaces, soft hyphens
+                "<table><tr><td>10&nbsp;&micro;F &amp; more</td><td>a&#8203;b&shy;c &lt;d&gt;</td>"
+                        + "<td>&copy &notanentity; &#x41;&#66;</td></tr></table>",
+                // <br> and block elements separate text, inline elements do not
+                "<table><tr><td>a<br>b<div>c</div>d<p>e</p>f</td><td><span>x</span><b>y</b> <i>z</i></td>"
+                        + "<td>1</br>2<br/>3</td><td><ul><li>one</li><li>two</li></ul></td></tr></table>",
+                // comments, doctype-like markup, script and style content
+                "<table><tr><td>x<!-- <td>hidden</td> -->y</td><td>a<script>var s = \"<td>no</td>\";</script>b</td>"
+                        + "<td>c<style>td { color: red }</style>d</td><td><?php echo 1 ?>e</td></tr></table>",
+                // whitespace collapsing and <pre>
+                "<table><tr><td>\n   a \t b\n </td><td><pre> keep   this\n</pre></td><td>   </td></tr></table>",
+                // implicit end tags and sections
+                "<table><thead><tr><th>h<td>x</thead><tbody><tr><td>a<td>b<tr><td>c</tbody>"
+                        + "<tfoot><tr><td>f</td></tfoot></table>",
+                // cells outside a row open an implied one; header cells are not reported
+                "<table><td>lonely</td><tr><th>h</th><td>v</td><th>h2</th></tr></table>",
+                // link kinds: relative, absolute with entities, javascript:, anchors without href
+                "<table><tr><td><a href=\"/p/1\">rel</a></td>"
+                        + "<td><a href=\"https://product.tdk.com/x?a=1&amp;b=2\">abs</a></td>"
+                        + "<td><a href=\"javascript:void(0)\">js</a></td>"
+                        + "<td><a name=\"n\">anchor</a> <a href=\"https://product.tdk.com/second\">second</a></td>"
+                        + "<td><a href=\"\">empty</a></td></tr></table>",
+                // nested inline markup in links, unclosed anchors
+                "<table><tr><td><a href=\"https://product.tdk.com/1\"><span>C1005</span> <b>X5R</b></a> tail</td>"
+                        + "<td><a href=\"https://product.tdk.com/a\">first<a href=\"https://product.tdk.com/b\">next</td>"
+                        + "</tr></table>",
+                // .pdf suffix matching is case-insensitive and takes the first match
+                "<table><tr><td><a href=\"https://product.tdk.com/a.htm\">html</a>"
+                        + "<a href=\"https://product.tdk.com/B.PDF\">pdf</a>"
+                        + "<a href=\"https://product.tdk.com/c.pdf\">pdf2</a></td>"
+                        + "<td><a href=\"/rel/doc.pdf\">relative pdf</a></td>"
+                        + "<td><a href=\"https://product.tdk.com/doc.pdf?v=2\">query</a></td></tr></table>",
+                // upper-case tags and attributes, unquoted and single-quoted values
+                "<TABLE><TR><TD CLASS=x><A HREF=https://product.tdk.com/u.pdf>U</A></TD>"
+                        + "<TD><a class='c' href='https://product.tdk.com/s'>S</a></TD></TR></TABLE>",
+                // a stray '<' in text
+                "<table><tr><td>a < b</td><td>1<2</td></tr></table>");
+    }
+
+    @ParameterizedTest
+    @MethodSource("edgeCases")
+    void cellsMatchJsoupSelectors(final String html) {
+        assertEquals(jsoupCells(html), readerCells(html));
+    }
+
+    @Test
+    void fixtureCellsMatchJsoupSelectors() throws IOException {
+        String html = fixture().path("results").asText();
+        List<List<Extract>> cells = readerCells(html);
+        assertFalse(cells.isEmpty());
+        assertEquals(jsoupCells(html), cells);
+    }
+
+    @Test
+    void fixtureRowsMatchLegacyParser() throws IOException {
+        JsonNode root = fixture();
+        List<Map<String, Object>> rows = new TdkJsonGridParser().parse(root);
+        assertFalse(rows.isEmpty());
+        assertEquals(legacyParse(root), rows);
+    }
+
+    @ParameterizedTest
+    @MethodSource("edgeCases")
+    void edgeCaseRowsMatchLegacyParser(final String html) throws IOException {
+        ObjectNode root = (ObjectNode) fixture();
+        root.put("results", html.replaceFirst("(?i)<table>", "<table>" + HEAD_ROWS));
+        assertEquals(legacyParse(root), new TdkJsonGridParser().parse(root));
+    }
+
+    private static JsonNode fixture() throws IOException {
+        return MAPPER.readTree(Files.readString(FIXTURE));
+    }
+
+    /**
+     * What the grid parser takes from one cell, with links resolved like {@code absUrl}.
+     */
+    record Extract(String text, String linkText, String linkUrl, String pdfUrl) {
+    }
+
+    private static List<List<Extract>> readerCells(final String html) {
+        List<List<Extract>> rows = new ArrayList<>();
+        TdkHtmlTableReader.read(html, (cells, idx) -> {
+            assertEquals(rows.size(), idx);
+            List<Extract> row = new ArrayList<>();
+            for (TdkHtmlTableReader.Cell c : cells) {
+                row.add(new Extract(c.text(), c.linkText(),
+                        c.linkHref() != null ? TdkHtmlTableReader.absUrl(c.linkHref()) : null,
+                        c.pdfHref() != null ? TdkHtmlTableReader.absUrl(c.pdfHref()) : null));
+            }
+            rows.add(row);
+        });
+        return rows;
+    }
+
+    private static List<List<Extract>> jsoupCells(final String html) {
+        List<List<Extract>> rows = new ArrayList<>();
+        for (Element tr : Jsoup.parse(html).select("tr")) {
+            List<Extract> row = new ArrayList<>();
+            for (Element td : tr.select("td")) {
+                Element anchor = td.selectFirst("a[href]");
+                Element pdf = td.selectFirst("a[href$=.pdf]");
+                row.add(new Extract(td.text(),
+                        anchor != null ? anchor.text() : null,
+                        anchor != null ? anchor.absUrl("href") : null,
+                        pdf != null ? pdf.absUrl("href") : null));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * The Jsoup-based {@code TdkJsonGridParser.parse} before the single-pass reader.
+     */
+    private static List<Map<String, Object>> legacyParse(final JsonNode root) {
+        Map<Integer, String> orderToHeader = new HashMap<>();
+        for (JsonNode n : root.path("columns")) {
+            orderToHeader.put(n.path("column_order").asInt(), n.path("column_name").asText());
+        }
+        List<Element> allRows = Jsoup.parse(root.path("results").asText()).select("tr");
+        List<Map<String, Object>> parsed = new ArrayList<>();
+        for (int idx = 2; idx < allRows.size(); idx++) {
+            List<Element> tds = allRows.get(idx).select("td");
+            Map<String, Object> row = new LinkedHashMap<>();
+            String partNo = null;
+            for (int col = 2; col < tds.size(); col++) {
+                String header = orderToHeader.getOrDefault(col * 10, "col_" + col);
+                Element td = tds.get(col);
+                if ("Part No.".equalsIgnoreCase(header)) {
+                    Element anchor = td.selectFirst("a[href]");
+                    partNo = anchor != null ? anchor.text() : td.text();
+                    row.put("Part No.", partNo);
+                    if (anchor != null) {
+                        row.put("url", anchor.absUrl("href"));
+                    }
+                } else if ("Catalog / Data Sheet".equalsIgnoreCase(header)) {
+                    Element pdf = td.selectFirst("a[href$=.pdf]");
+                    if (pdf != null) {
+                        row.put("Catalog / Data Sheet", pdf.absUrl("href"));
+                    }
+                } else {
+                    row.put(header, td.text());
+                }
+            }
+            if (partNo != null && !row.isEmpty()) {
+                parsed.add(row);
+            }
+        }
+        return parsed;
+    }
+}